@@ -0,0 +1,538 @@
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * AnalysisSweep - Headless analysis over every combination of spoke counts, scale
+ *                 factors, filters, rotation speeds and frame rates.
+ *
+ *                 Each cell compares the original frame (sharp spokes, scaled) with
+ *                 the modified frame (motion blurred over the rotation of one frame,
+ *                 scaled, then filtered) and reports MSE, PSNR and SSIM. Cells run
+ *                 on a work-stealing ForkJoinPool, and every intermediate image is
+ *                 computed once per run and shared by all cells that need it, so the
+ *                 same source at the same size is rendered and scaled only once
+ */
+public final class AnalysisSweep
+{
+   // Filter Names besides the FilterKernel Names
+   public static final String FILTER_NONE = "none";
+   public static final String FILTER_3X3 = "3x3";
+
+   // Header of the CSV Results
+   public static final String CSV_HEADER = "spokes,scale,filter,rotsPerSec,fps,sweep,width,height,mse,psnr,ssim";
+
+   /**
+    * Result - Parameters and Metrics of one Cell of the Sweep
+    */
+   public static final class Result
+   {
+      // Parameters of the Cell
+      private final int _spokes;
+      private final double _scale;
+      private final String _filter;
+      private final double _rotsPerSec;
+      private final double _fps;
+      private final double _sweep;
+
+      // Dimensions of the compared Frames
+      private final int _width;
+      private final int _height;
+
+      // Metrics between the Original and the Modified Frame
+      private final ImageMetrics _metrics;
+
+      /**
+       * Constructor
+       *
+       * @param spokes     - Number of Spokes
+       * @param scale      - Scale Factor
+       * @param filter     - Filter Name
+       * @param rotsPerSec - Rotations per Second
+       * @param fps        - Frames per Second
+       * @param sweep      - Rotation during a Frame (Degrees)
+       * @param width      - Width of the compared Frames
+       * @param height     - Height of the compared Frames
+       * @param metrics    - Metrics between the Frames
+       */
+      Result(final int spokes, final double scale, final String filter, final double rotsPerSec, final double fps,
+             final double sweep, final int width, final int height, final ImageMetrics metrics)
+      {
+         _spokes = spokes;
+         _scale = scale;
+         _filter = filter;
+         _rotsPerSec = rotsPerSec;
+         _fps = fps;
+         _sweep = sweep;
+         _width = width;
+         _height = height;
+         _metrics = metrics;
+      }
+
+      /**
+       * getSpokes - Gets the Number of Spokes
+       *
+       * @return int
+       */
+      public int getSpokes()
+      {
+         return _spokes;
+      }
+
+      /**
+       * getScale - Gets the Scale Factor
+       *
+       * @return double
+       */
+      public double getScale()
+      {
+         return _scale;
+      }
+
+      /**
+       * getFilter - Gets the Filter Name
+       *
+       * @return String
+       */
+      public String getFilter()
+      {
+         return _filter;
+      }
+
+      /**
+       * getRotsPerSec - Gets the Rotations per Second
+       *
+       * @return double
+       */
+      public double getRotsPerSec()
+      {
+         return _rotsPerSec;
+      }
+
+      /**
+       * getFps - Gets the Frames per Second
+       *
+       * @return double
+       */
+      public double getFps()
+      {
+         return _fps;
+      }
+
+      /**
+       * getSweep - Gets the Rotation during a Frame (Degrees)
+       *
+       * @return double
+       */
+      public double getSweep()
+      {
+         return _sweep;
+      }
+
+      /**
+       * getMetrics - Gets the Metrics between the Original and the Modified Frame
+       *
+       * @return ImageMetrics
+       */
+      public ImageMetrics getMetrics()
+      {
+         return _metrics;
+      }
+
+      /**
+       * toCsv - Formats the Result as a Row matching CSV_HEADER
+       *
+       * @return String
+       */
+      public String toCsv()
+      {
+         return _spokes + "," + _scale + "," + _filter + "," + _rotsPerSec + "," + _fps + "," + _sweep + ","
+                + _width + "," + _height + "," + _metrics.getMse() + "," + _metrics.getPsnr() + "," + _metrics.getSsim();
+      }
+   }
+
+   // Width/Height of the Source Images
+   private final int _width;
+   private final int _height;
+
+   // Pool running the Cells
+   private final ForkJoinPool _pool;
+
+   // Ranges of the Sweep
+   private int[] _spokes = {16};
+   private double[] _scales = {1.0};
+   private String[] _filters = {FILTER_3X3};
+   private double[] _rotsPerSec = {0.0};
+   private double[] _fps = {60.0};
+
+   // Spokes of every Original Frame (0 to compare against the Spokes of the Cell)
+   private int _referenceSpokes = 0;
+
+   // Intermediate Results of the running Sweep by Key, each computed once
+   private final Map<String, ForkJoinTask<?>> _shared = new ConcurrentHashMap<String, ForkJoinTask<?>>();
+
+   /**
+    * Constructor
+    *
+    * @param width  - Width of the Source Images
+    * @param height - Height of the Source Images
+    */
+   public AnalysisSweep(final int width, final int height)
+   {
+      this(width, height, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Constructor
+    *
+    * @param width  - Width of the Source Images
+    * @param height - Height of the Source Images
+    * @param pool   - Pool running the Cells
+    */
+   public AnalysisSweep(final int width, final int height, final ForkJoinPool pool)
+   {
+      if((width < 1) || (height < 1))
+      {
+         throw new IllegalArgumentException("Invalid size " + width + "x" + height);
+      }
+
+      _width = width;
+      _height = height;
+      _pool = pool;
+   }
+
+   /**
+    * setSpokes - Sets the Spoke Counts of the Sweep
+    *
+    * @param spokes - Numbers of Spokes (positive)
+    */
+   public void setSpokes(final int... spokes)
+   {
+      checkCount(spokes.length, "spoke counts");
+      for(int n : spokes)
+      {
+         if(n < 1)
+         {
+            throw new IllegalArgumentException("Invalid spoke count " + n);
+         }
+      }
+      _spokes = spokes.clone();
+   }
+
+   /**
+    * setScales - Sets the Scale Factors of the Sweep
+    *
+    * @param scales - Scale Factors (positive, 2.0 halves the size)
+    */
+   public void setScales(final double... scales)
+   {
+      _scales = checkPositive(scales, "scale");
+   }
+
+   /**
+    * setFilters - Sets the Filters applied to the Modified Frame
+    *
+    * @param filters - FILTER_NONE, FILTER_3X3 or FilterKernel Names
+    */
+   public void setFilters(final String... filters)
+   {
+      checkCount(filters.length, "filters");
+      for(String filter : filters)
+      {
+         if(!FILTER_NONE.equals(filter) && !FILTER_3X3.equals(filter))
+         {
+            FilterKernel.forName(filter);
+         }
+      }
+      _filters = filters.clone();
+   }
+
+   /**
+    * setRotsPerSec - Sets the Rotation Speeds of the Sweep
+    *
+    * @param rotsPerSec - Rotations per Second (0 for still Frames)
+    */
+   public void setRotsPerSec(final double... rotsPerSec)
+   {
+      checkCount(rotsPerSec.length, "rotation speeds");
+      _rotsPerSec = rotsPerSec.clone();
+   }
+
+   /**
+    * setFps - Sets the Frame Rates of the Sweep
+    *
+    * @param fps - Frames per Second (positive)
+    */
+   public void setFps(final double... fps)
+   {
+      _fps = checkPositive(fps, "frame rate");
+   }
+
+   /**
+    * setReferenceSpokes - Compares every Modified Frame against a sharp Original
+    *                      Frame with a fixed Number of Spokes
+    *
+    * @param spokes - Number of Spokes of the Original Frame (0 for the Spokes of the Cell)
+    */
+   public void setReferenceSpokes(final int spokes)
+   {
+      if(spokes < 0)
+      {
+         throw new IllegalArgumentException("Invalid spoke count " + spokes);
+      }
+      _referenceSpokes = spokes;
+   }
+
+   /**
+    * getCells - Gets the Number of Cells of the Sweep
+    *
+    * @return int
+    */
+   public int getCells()
+   {
+      return _spokes.length * _scales.length * _filters.length * _rotsPerSec.length * _fps.length;
+   }
+
+   /**
+    * run - Runs every Cell of the Sweep
+    *
+    * @return List<Result> - Results in the order of spokes, scales, filters,
+    *                        rotation speeds and frame rates
+    */
+   public synchronized List<Result> run()
+   {
+      final List<ForkJoinTask<Result>> cells = new ArrayList<ForkJoinTask<Result>>(getCells());
+      for(final int spokes : _spokes)
+      {
+         for(final double scale : _scales)
+         {
+            for(final String filter : _filters)
+            {
+               for(final double rotsPerSec : _rotsPerSec)
+               {
+                  for(final double fps : _fps)
+                  {
+                     cells.add(ForkJoinTask.adapt(new Callable<Result>()
+                     {
+                        @Override
+                        public Result call()
+                        {
+                           return runCell(spokes, scale, filter, rotsPerSec, fps);
+                        }
+                     }));
+                  }
+               }
+            }
+         }
+      }
+
+      try
+      {
+         // Fork all Cells and let idle Workers steal them
+         _pool.invoke(ForkJoinTask.adapt(new Runnable()
+         {
+            @Override
+            public void run()
+            {
+               ForkJoinTask.invokeAll(cells);
+            }
+         }));
+
+         final List<Result> results = new ArrayList<Result>(cells.size());
+         for(ForkJoinTask<Result> cell : cells)
+         {
+            results.add(cell.join());
+         }
+         return results;
+      }
+      finally
+      {
+         // Release the Intermediate Images
+         _shared.clear();
+      }
+   }
+
+   /**
+    * writeCsv - Writes Results as CSV with a Header Row
+    *
+    * @param results - The Results
+    * @param writer  - Destination of the CSV (not closed)
+    * @throws IOException
+    */
+   public static void writeCsv(final List<Result> results, final Writer writer) throws IOException
+   {
+      writer.write(CSV_HEADER);
+      writer.write(System.lineSeparator());
+      for(Result result : results)
+      {
+         writer.write(result.toCsv());
+         writer.write(System.lineSeparator());
+      }
+      writer.flush();
+   }
+
+   /**
+    * runCell - Compares the Original and the Modified Frame of one Cell
+    *
+    * @param spokes     - Number of Spokes
+    * @param scale      - Scale Factor
+    * @param filter     - Filter Name
+    * @param rotsPerSec - Rotations per Second
+    * @param fps        - Frames per Second
+    * @return Result    - The Result
+    */
+   private Result runCell(final int spokes, final double scale, final String filter,
+                          final double rotsPerSec, final double fps)
+   {
+      // Rotation during a Frame, as in RadialImage.rotate
+      final double sweep = rotsPerSec * (360.0/fps);
+
+      final BufferedImage original = getScaledFrame((_referenceSpokes > 0) ? _referenceSpokes : spokes, 0.0, scale);
+      final BufferedImage modified = getScaledFrame(spokes, sweep, scale);
+
+      // Cells with the same Sweep share the Metrics
+      final ImageMetrics metrics = share("metrics/" + spokes + "/" + sweep + "/" + scale + "/" + filter, new Callable<ImageMetrics>()
+      {
+         @Override
+         public ImageMetrics call()
+         {
+            return ImageMetrics.compare(original, filter(modified, filter));
+         }
+      });
+
+      return new Result(spokes, scale, filter, rotsPerSec, fps, sweep, modified.getWidth(), modified.getHeight(), metrics);
+   }
+
+   /**
+    * getRadialImage - Gets the Radial Image with a Number of Spokes, rendered once
+    *
+    * @param spokes       - Number of Spokes
+    * @return RadialImage - The Radial Image (its image holds the sharp Spokes at phase 0)
+    */
+   private RadialImage getRadialImage(final int spokes)
+   {
+      return share("radial/" + spokes, new Callable<RadialImage>()
+      {
+         @Override
+         public RadialImage call()
+         {
+            return new RadialImage(_width, _height, spokes);
+         }
+      });
+   }
+
+   /**
+    * getScaledFrame - Gets a Frame motion blurred over a sweep into phase 0 and
+    *                  scaled, rendered and scaled once
+    *
+    * @param spokes         - Number of Spokes
+    * @param sweep          - Rotation during the Frame (Degrees, negative when rotating
+    *                         backwards, 0 for sharp Spokes)
+    * @param scale          - Scale Factor
+    * @return BufferedImage - The Scaled Frame (shared, do not modify)
+    */
+   private BufferedImage getScaledFrame(final int spokes, final double sweep, final double scale)
+   {
+      final BufferedImage frame = share("frame/" + spokes + "/" + sweep, new Callable<BufferedImage>()
+      {
+         @Override
+         public BufferedImage call()
+         {
+            final RadialImage radialImage = getRadialImage(spokes);
+            return (sweep == 0) ? radialImage.getBufferedImage() : radialImage.generateMotionBlurredImage(0.0, sweep);
+         }
+      });
+
+      if(scale == 1.0)
+      {
+         return frame;
+      }
+
+      return share("scaled/" + spokes + "/" + sweep + "/" + scale, new Callable<BufferedImage>()
+      {
+         @Override
+         public BufferedImage call()
+         {
+            return ImageDisplay.scaleImage(frame, scale);
+         }
+      });
+   }
+
+   /**
+    * share - Gets an Intermediate Result, computing it in this Thread if no other
+    *         Cell has started it, or waiting for (and helping) the Cell that has
+    *
+    * @param key         - Key of the Result
+    * @param computation - Computes the Result
+    * @return T          - The Result
+    */
+   @SuppressWarnings("unchecked")
+   private <T> T share(final String key, final Callable<T> computation)
+   {
+      final ForkJoinTask<T> task = ForkJoinTask.adapt(computation);
+      final ForkJoinTask<T> shared = (ForkJoinTask<T>) _shared.putIfAbsent(key, task);
+
+      return (shared != null) ? shared.join() : task.invoke();
+   }
+
+   /**
+    * filter - Applies a Filter to an Image
+    *
+    * @param image          - The Image
+    * @param filter         - FILTER_NONE, FILTER_3X3 or a FilterKernel Name
+    * @return BufferedImage - The Filtered Image
+    */
+   private static BufferedImage filter(final BufferedImage image, final String filter)
+   {
+      if(FILTER_NONE.equals(filter))
+      {
+         return image;
+      }
+      else if(FILTER_3X3.equals(filter))
+      {
+         return ImageDisplay.filterImage(image);
+      }
+      return ImageDisplay.filterImage(image, FilterKernel.forName(filter));
+   }
+
+   /**
+    * checkCount - Validates that a Range is not empty
+    *
+    * @param count - Number of Values
+    * @param name  - Name of the Values
+    */
+   private static void checkCount(final int count, final String name)
+   {
+      if(count == 0)
+      {
+         throw new IllegalArgumentException("No " + name + " to sweep");
+      }
+   }
+
+   /**
+    * checkPositive - Validates and copies a Range of positive Values
+    *
+    * @param values    - The Values
+    * @param name      - Name of a Value
+    * @return double[] - Copy of the Values
+    */
+   private static double[] checkPositive(final double[] values, final String name)
+   {
+      checkCount(values.length, name + "s");
+      for(double value : values)
+      {
+         if(!(value > 0))
+         {
+            throw new IllegalArgumentException("Invalid " + name + " " + value);
+         }
+      }
+      return values.clone();
+   }
+}
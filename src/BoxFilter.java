@@ -0,0 +1,194 @@
+import java.awt.image.BufferedImage;
+
+/**
+ * BoxFilter - Separable box filter of any radius using sliding window sums.
+ *
+ *             A horizontal pass sums each row with a running window, then a vertical
+ *             pass sums those row sums with running column sums, so the cost per pixel
+ *             does not depend on the radius. The window is clamped to the image, so
+ *             border pixels average only the pixels inside the image (radius 1 matches
+ *             ImageDisplay.filterImage). Scratch buffers are reused between calls, so
+ *             an instance must not be shared between threads
+ */
+public final class BoxFilter
+{
+   // Horizontal Window Sums of each Pixel
+   private int[] _rowRed = new int[0];
+   private int[] _rowGreen = new int[0];
+   private int[] _rowBlue = new int[0];
+
+   // Vertical Running Sums of each Column
+   private int[] _columnRed = new int[0];
+   private int[] _columnGreen = new int[0];
+   private int[] _columnBlue = new int[0];
+
+   // Horizontal Window Size of each Column
+   private int[] _columnCount = new int[0];
+
+   /**
+    * filter - Filters an Image by averaging the (2r+1)x(2r+1) square surrounding each pixel
+    *
+    * @param image          - The Buffered Image to Filter
+    * @param radius         - Radius of the Square
+    * @return BufferedImage - The Filtered Image
+    */
+   public BufferedImage filter(final BufferedImage image, final int radius)
+   {
+      final BufferedImage filteredImage = ImageRaster.createImage(image.getWidth(), image.getHeight());
+      filter(ImageRaster.getPixels(image), ImageRaster.getData(filteredImage), image.getWidth(), image.getHeight(), radius);
+      return filteredImage;
+   }
+
+   /**
+    * filter - Filters Pixels by averaging the (2r+1)x(2r+1) square surrounding each pixel
+    *
+    * @param src    - Pixels to Filter (row-major)
+    * @param dst    - Filtered Pixels (row-major, may not be src)
+    * @param width  - Width of the Image
+    * @param height - Height of the Image
+    * @param radius - Radius of the Square
+    */
+   public void filter(final int[] src, final int[] dst, final int width, final int height, final int radius)
+   {
+      if(radius < 0)
+      {
+         throw new IllegalArgumentException("Invalid box filter radius " + radius);
+      }
+
+      ensureCapacity(width, height);
+
+      // 1.) Horizontal Pass
+      for(int y = 0; y < height; ++y)
+      {
+         final int row = y * width;
+
+         // Initialize Window [-r, r] of the first Pixel
+         int red = 0;
+         int green = 0;
+         int blue = 0;
+         for(int x = 0; x <= Math.min(radius, width-1); ++x)
+         {
+            final int pix = src[row + x];
+            red   += (pix >> 16) & 0xff;
+            green += (pix >> 8) & 0xff;
+            blue  +=  pix & 0xff;
+         }
+
+         // Slide the Window along the Row
+         for(int x = 0; x < width; ++x)
+         {
+            _rowRed[row + x] = red;
+            _rowGreen[row + x] = green;
+            _rowBlue[row + x] = blue;
+
+            // Add the Pixel entering the Window
+            if((x + radius + 1) < width)
+            {
+               final int pix = src[row + x + radius + 1];
+               red   += (pix >> 16) & 0xff;
+               green += (pix >> 8) & 0xff;
+               blue  +=  pix & 0xff;
+            }
+
+            // Remove the Pixel leaving the Window
+            if((x - radius) >= 0)
+            {
+               final int pix = src[row + x - radius];
+               red   -= (pix >> 16) & 0xff;
+               green -= (pix >> 8) & 0xff;
+               blue  -=  pix & 0xff;
+            }
+         }
+      }
+
+      // Get Horizontal Window Size of each Column
+      for(int x = 0; x < width; ++x)
+      {
+         _columnCount[x] = Math.min(x + radius, width-1) - Math.max(x - radius, 0) + 1;
+      }
+
+      // 2.) Vertical Pass - Initialize Window [-r, r] of the first Row
+      for(int x = 0; x < width; ++x)
+      {
+         _columnRed[x] = 0;
+         _columnGreen[x] = 0;
+         _columnBlue[x] = 0;
+      }
+      for(int y = 0; y <= Math.min(radius, height-1); ++y)
+      {
+         addRow(y * width, width, 1);
+      }
+
+      // Slide the Window down the Columns
+      for(int y = 0; y < height; ++y)
+      {
+         final int row = y * width;
+         final int rows = Math.min(y + radius, height-1) - Math.max(y - radius, 0) + 1;
+
+         // Average the Window Sums
+         for(int x = 0; x < width; ++x)
+         {
+            final int count = rows * _columnCount[x];
+            final int newRed = _columnRed[x]/count;
+            final int newGreen = _columnGreen[x]/count;
+            final int newBlue = _columnBlue[x]/count;
+
+            dst[row + x] = 0xff000000 | (newRed << 16) | (newGreen << 8) | newBlue;
+         }
+
+         // Add the Row entering the Window
+         if((y + radius + 1) < height)
+         {
+            addRow((y + radius + 1) * width, width, 1);
+         }
+
+         // Remove the Row leaving the Window
+         if((y - radius) >= 0)
+         {
+            addRow((y - radius) * width, width, -1);
+         }
+      }
+   }
+
+   /**
+    * addRow - Adds the Horizontal Sums of a Row to the Column Sums
+    *
+    * @param row   - Offset of the Row
+    * @param width - Width of the Image
+    * @param sign  - 1 to add the Row, -1 to remove it
+    */
+   private void addRow(final int row, final int width, final int sign)
+   {
+      for(int x = 0; x < width; ++x)
+      {
+         _columnRed[x] += sign * _rowRed[row + x];
+         _columnGreen[x] += sign * _rowGreen[row + x];
+         _columnBlue[x] += sign * _rowBlue[row + x];
+      }
+   }
+
+   /**
+    * ensureCapacity - Grows the Scratch Buffers to fit an Image
+    *
+    * @param width  - Width of the Image
+    * @param height - Height of the Image
+    */
+   private void ensureCapacity(final int width, final int height)
+   {
+      final int size = width * height;
+      if(_rowRed.length < size)
+      {
+         _rowRed = new int[size];
+         _rowGreen = new int[size];
+         _rowBlue = new int[size];
+      }
+
+      if(_columnRed.length < width)
+      {
+         _columnRed = new int[width];
+         _columnGreen = new int[width];
+         _columnBlue = new int[width];
+         _columnCount = new int[width];
+      }
+   }
+}
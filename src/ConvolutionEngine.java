@@ -0,0 +1,235 @@
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * ConvolutionEngine - Applies a separable FilterKernel to the packed ARGB pixels
+ *                     of an image in fixed point.
+ *
+ *                     A horizontal pass writes each channel with extra fraction bits
+ *                     into scratch arrays, and a vertical pass reduces them back to
+ *                     8 bits. Both passes run in parallel row bands. Taps outside the
+ *                     image are skipped and the remaining weights renormalized, so
+ *                     border pixels only average the pixels inside the image
+ */
+public final class ConvolutionEngine
+{
+   // Fraction Bits kept between the Horizontal and Vertical Pass
+   private static final int FRACTION = 6;
+
+   // Shifts of each Pass
+   private static final int HORIZONTAL_SHIFT = FilterKernel.SHIFT - FRACTION;
+   private static final int VERTICAL_SHIFT = FilterKernel.SHIFT + FRACTION;
+
+   /**
+    * Constructor
+    */
+   private ConvolutionEngine()
+   {
+   }
+
+   /**
+    * convolve - Filters an Image with a separable Kernel
+    *
+    * @param image          - The Buffered Image to Filter
+    * @param kernel         - The Kernel
+    * @return BufferedImage - The Filtered Image
+    */
+   public static BufferedImage convolve(final BufferedImage image, final FilterKernel kernel)
+   {
+      final int width = image.getWidth();
+      final int height = image.getHeight();
+
+      final BufferedImage filteredImage = ImageRaster.createImage(width, height);
+      final int[] src = ImageRaster.getPixels(image);
+      final int[] dst = ImageRaster.getData(filteredImage);
+
+      // Channels after the Horizontal Pass (FRACTION fraction bits)
+      final int[] red = new int[width * height];
+      final int[] green = new int[width * height];
+      final int[] blue = new int[width * height];
+
+      // Get the Weight Sum of the Taps inside the Image at each Position
+      final int[] columnWeights = getWeightSums(kernel, width);
+      final int[] rowWeights = getWeightSums(kernel, height);
+
+      // 1.) Horizontal Pass
+      ImageRaster.forEachBand(height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            convolveRows(src, red, green, blue, width, kernel, columnWeights, startY, endY);
+         }
+      });
+
+      // 2.) Vertical Pass
+      ImageRaster.forEachBand(height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            convolveColumns(red, green, blue, dst, width, height, kernel, rowWeights, startY, endY);
+         }
+      });
+
+      return filteredImage;
+   }
+
+   /**
+    * convolveRows - Horizontal Pass over Rows [startY, endY)
+    *
+    * @param src     - Pixels to Filter
+    * @param red     - Red Channel Output
+    * @param green   - Green Channel Output
+    * @param blue    - Blue Channel Output
+    * @param width   - Width of the Image
+    * @param kernel  - The Kernel
+    * @param weights - Weight Sum of the Taps inside the Image of each Column
+    * @param startY  - First Row
+    * @param endY    - Row after the last Row
+    */
+   private static void convolveRows(final int[] src, final int[] red, final int[] green, final int[] blue, final int width,
+                                    final FilterKernel kernel, final int[] weights, final int startY, final int endY)
+   {
+      final int radius = kernel.getRadius();
+
+      for(int y = startY; y < endY; ++y)
+      {
+         final int row = y * width;
+
+         for(int x = 0; x < width; ++x)
+         {
+            // Clamp Taps to the Image
+            final int first = Math.max(-radius, -x);
+            final int last = Math.min(radius, (width - 1) - x);
+
+            int redTotal = 0;
+            int greenTotal = 0;
+            int blueTotal = 0;
+            for(int k = first; k <= last; ++k)
+            {
+               final int w = kernel.getWeight(k);
+               final int pix = src[row + x + k];
+               redTotal   += w * ((pix >> 16) & 0xff);
+               greenTotal += w * ((pix >> 8) & 0xff);
+               blueTotal  += w * (pix & 0xff);
+            }
+
+            red[row + x] = normalize(redTotal, weights[x], HORIZONTAL_SHIFT);
+            green[row + x] = normalize(greenTotal, weights[x], HORIZONTAL_SHIFT);
+            blue[row + x] = normalize(blueTotal, weights[x], HORIZONTAL_SHIFT);
+         }
+      }
+   }
+
+   /**
+    * convolveColumns - Vertical Pass producing Rows [startY, endY)
+    *
+    * @param red     - Red Channel of the Horizontal Pass
+    * @param green   - Green Channel of the Horizontal Pass
+    * @param blue    - Blue Channel of the Horizontal Pass
+    * @param dst     - Filtered Pixels
+    * @param width   - Width of the Image
+    * @param height  - Height of the Image
+    * @param kernel  - The Kernel
+    * @param weights - Weight Sum of the Taps inside the Image of each Row
+    * @param startY  - First Row
+    * @param endY    - Row after the last Row
+    */
+   private static void convolveColumns(final int[] red, final int[] green, final int[] blue, final int[] dst, final int width,
+                                       final int height, final FilterKernel kernel, final int[] weights, final int startY, final int endY)
+   {
+      final int radius = kernel.getRadius();
+
+      // Accumulators of one output Row
+      final int[] redTotal = new int[width];
+      final int[] greenTotal = new int[width];
+      final int[] blueTotal = new int[width];
+
+      for(int y = startY; y < endY; ++y)
+      {
+         // Clamp Taps to the Image
+         final int first = Math.max(-radius, -y);
+         final int last = Math.min(radius, (height - 1) - y);
+
+         // Accumulate the Rows of the Taps
+         Arrays.fill(redTotal, 0);
+         Arrays.fill(greenTotal, 0);
+         Arrays.fill(blueTotal, 0);
+         for(int k = first; k <= last; ++k)
+         {
+            final int w = kernel.getWeight(k);
+            final int row = (y + k) * width;
+            for(int x = 0; x < width; ++x)
+            {
+               redTotal[x]   += w * red[row + x];
+               greenTotal[x] += w * green[row + x];
+               blueTotal[x]  += w * blue[row + x];
+            }
+         }
+
+         // Reduce to 8 bit Channels
+         final int row = y * width;
+         for(int x = 0; x < width; ++x)
+         {
+            final int newRed = clamp(normalize(redTotal[x], weights[y], VERTICAL_SHIFT));
+            final int newGreen = clamp(normalize(greenTotal[x], weights[y], VERTICAL_SHIFT));
+            final int newBlue = clamp(normalize(blueTotal[x], weights[y], VERTICAL_SHIFT));
+
+            dst[row + x] = 0xff000000 | (newRed << 16) | (newGreen << 8) | newBlue;
+         }
+      }
+   }
+
+   /**
+    * getWeightSums - Gets the Weight Sum of the Taps inside the Image at each Position
+    *
+    * @param kernel - The Kernel
+    * @param size   - Width or Height of the Image
+    * @return int[] - Weight Sum at each Position
+    */
+   private static int[] getWeightSums(final FilterKernel kernel, final int size)
+   {
+      final int radius = kernel.getRadius();
+      final int[] sums = new int[size];
+
+      for(int i = 0; i < size; ++i)
+      {
+         int sum = 0;
+         for(int k = Math.max(-radius, -i); k <= Math.min(radius, (size - 1) - i); ++k)
+         {
+            sum += kernel.getWeight(k);
+         }
+         sums[i] = sum;
+      }
+
+      return sums;
+   }
+
+   /**
+    * normalize - Divides an Accumulated Value by its Weight Sum and rounds off fraction bits
+    *
+    * @param total  - Accumulated Value
+    * @param weight - Weight Sum of the Taps used
+    * @param shift  - Fraction Bits to round off (for a Weight Sum of ONE)
+    * @return int   - The Normalized Value
+    */
+   private static int normalize(final int total, final int weight, final int shift)
+   {
+      // Renormalize Taps clamped at the Image border
+      final long value = (weight == FilterKernel.ONE) ? total : ((long) total * FilterKernel.ONE) / weight;
+
+      return (int) ((value + (1L << (shift - 1))) >> shift);
+   }
+
+   /**
+    * clamp - Clamps a Channel to 0..255
+    *
+    * @param value - The Channel Value
+    * @return int  - The Clamped Value
+    */
+   private static int clamp(final int value)
+   {
+      return Math.max(0, Math.min(255, value));
+   }
+}
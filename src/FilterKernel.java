@@ -0,0 +1,296 @@
+/**
+ * FilterKernel - Separable 1D filter kernel with precomputed fixed point weights.
+ *
+ *                Kernels are sampled at integer pixel offsets and normalized so the
+ *                weights sum to exactly ONE. The same kernel is applied horizontally
+ *                and vertically by the ConvolutionEngine
+ */
+public final class FilterKernel
+{
+   // Fixed Point Precision of the Weights
+   public static final int SHIFT = 14;
+   public static final int ONE = 1 << SHIFT;
+
+   // Mitchell-Netravali Parameters (B = C = 1/3)
+   private static final double MITCHELL_B = 1.0/3.0;
+   private static final double MITCHELL_C = 1.0/3.0;
+
+   // Name of the Kernel
+   private final String _name;
+
+   // Radius of the Kernel (taps -radius..radius)
+   private final int _radius;
+
+   // Fixed Point Weights of the Taps
+   private final int[] _weights;
+
+   /**
+    * Constructor
+    *
+    * @param name    - Name of the Kernel
+    * @param weights - Weights of the Taps -radius..radius (any scale, non-zero sum)
+    */
+   private FilterKernel(final String name, final double[] weights)
+   {
+      _name = name;
+      _radius = weights.length / 2;
+      _weights = new int[weights.length];
+
+      // Get Sum of the Weights
+      double sum = 0;
+      for(double w : weights)
+      {
+         sum += w;
+      }
+
+      // Convert to Fixed Point
+      int total = 0;
+      for(int i = 0; i < weights.length; ++i)
+      {
+         _weights[i] = (int) Math.round((weights[i] / sum) * ONE);
+         total += _weights[i];
+      }
+
+      // Put the Rounding Error on the Center Tap so the Weights sum to ONE
+      _weights[_radius] += ONE - total;
+   }
+
+   /**
+    * box - Creates a Box Kernel (unweighted mean)
+    *
+    * @param radius        - Radius of the Kernel
+    * @return FilterKernel - The Kernel
+    */
+   public static FilterKernel box(final int radius)
+   {
+      final double[] weights = new double[(2 * checkRadius(radius)) + 1];
+      for(int i = 0; i < weights.length; ++i)
+      {
+         weights[i] = 1.0;
+      }
+      return new FilterKernel("box" + radius, weights);
+   }
+
+   /**
+    * tent - Creates a Tent Kernel (linear falloff)
+    *
+    * @param radius        - Radius of the Kernel
+    * @return FilterKernel - The Kernel
+    */
+   public static FilterKernel tent(final int radius)
+   {
+      final double[] weights = new double[(2 * checkRadius(radius)) + 1];
+      for(int i = -radius; i <= radius; ++i)
+      {
+         weights[i + radius] = (radius + 1) - Math.abs(i);
+      }
+      return new FilterKernel("tent" + radius, weights);
+   }
+
+   /**
+    * gaussian - Creates a Gaussian Kernel truncated at 3 sigma
+    *
+    * @param sigma         - Standard Deviation (pixels)
+    * @return FilterKernel - The Kernel
+    */
+   public static FilterKernel gaussian(final double sigma)
+   {
+      if(!(sigma > 0))
+      {
+         throw new IllegalArgumentException("Invalid gaussian sigma " + sigma);
+      }
+
+      final int radius = (int) Math.ceil(3.0 * sigma);
+      final double[] weights = new double[(2 * radius) + 1];
+      for(int i = -radius; i <= radius; ++i)
+      {
+         weights[i + radius] = Math.exp(-(i * i) / (2.0 * sigma * sigma));
+      }
+      return new FilterKernel("gaussian" + sigma, weights);
+   }
+
+   /**
+    * lanczos - Creates a Lanczos Kernel
+    *
+    * @param lobes         - Number of Lobes on each side
+    * @param stretch       - Width of one Lobe (pixels, the scale factor for a pre-filter)
+    * @return FilterKernel - The Kernel
+    */
+   public static FilterKernel lanczos(final int lobes, final double stretch)
+   {
+      checkRadius(lobes - 1);
+      checkStretch(stretch);
+
+      final int radius = (int) Math.ceil(lobes * stretch) - 1;
+      final double[] weights = new double[(2 * Math.max(0, radius)) + 1];
+      for(int i = -radius; i <= radius; ++i)
+      {
+         final double x = i / stretch;
+         weights[i + radius] = sinc(x) * sinc(x / lobes);
+      }
+      return new FilterKernel("lanczos" + lobes + "x" + stretch, weights);
+   }
+
+   /**
+    * mitchell - Creates a Mitchell-Netravali Cubic Kernel (B = C = 1/3)
+    *
+    * @param stretch       - Width of one unit of the Cubic (pixels, the scale factor for a pre-filter)
+    * @return FilterKernel - The Kernel
+    */
+   public static FilterKernel mitchell(final double stretch)
+   {
+      checkStretch(stretch);
+
+      final int radius = (int) Math.ceil(2.0 * stretch) - 1;
+      final double[] weights = new double[(2 * Math.max(0, radius)) + 1];
+      for(int i = -radius; i <= radius; ++i)
+      {
+         weights[i + radius] = cubic(Math.abs(i / stretch));
+      }
+      return new FilterKernel("mitchell" + stretch, weights);
+   }
+
+   /**
+    * forName - Creates a Kernel from its Name, as returned by getName
+    *           (box1, tent2, gaussian1.5, lanczos3x2.0, mitchell1.0)
+    *
+    * @param name          - Name of the Kernel
+    * @return FilterKernel - The Kernel
+    */
+   public static FilterKernel forName(final String name)
+   {
+      try
+      {
+         if(name.startsWith("box"))
+         {
+            return box(Integer.parseInt(name.substring(3)));
+         }
+         else if(name.startsWith("tent"))
+         {
+            return tent(Integer.parseInt(name.substring(4)));
+         }
+         else if(name.startsWith("gaussian"))
+         {
+            return gaussian(Double.parseDouble(name.substring(8)));
+         }
+         else if(name.startsWith("lanczos"))
+         {
+            final String[] parts = name.substring(7).split("x", 2);
+            return lanczos(Integer.parseInt(parts[0]), (parts.length > 1) ? Double.parseDouble(parts[1]) : 1.0);
+         }
+         else if(name.startsWith("mitchell"))
+         {
+            return mitchell((name.length() > 8) ? Double.parseDouble(name.substring(8)) : 1.0);
+         }
+      }
+      catch(NumberFormatException e)
+      {
+         throw new IllegalArgumentException("Invalid kernel " + name, e);
+      }
+
+      throw new IllegalArgumentException("Unknown kernel " + name);
+   }
+
+   /**
+    * getName - Gets the Name of the Kernel
+    *
+    * @return String
+    */
+   public String getName()
+   {
+      return _name;
+   }
+
+   /**
+    * getRadius - Gets the Radius of the Kernel
+    *
+    * @return int
+    */
+   public int getRadius()
+   {
+      return _radius;
+   }
+
+   /**
+    * getWeight - Gets the Fixed Point Weight of a Tap
+    *
+    * @param offset - Offset of the Tap (-radius..radius)
+    * @return int   - The Weight (ONE is 1.0)
+    */
+   public int getWeight(final int offset)
+   {
+      return _weights[offset + _radius];
+   }
+
+   @Override
+   public String toString()
+   {
+      return _name;
+   }
+
+   /**
+    * sinc - Normalized Sinc Function
+    *
+    * @param x
+    * @return double
+    */
+   private static double sinc(final double x)
+   {
+      if(x == 0.0)
+      {
+         return 1.0;
+      }
+      final double px = Math.PI * x;
+      return Math.sin(px) / px;
+   }
+
+   /**
+    * cubic - Mitchell-Netravali Cubic
+    *
+    * @param x       - Distance from the Center (>= 0)
+    * @return double - The Weight
+    */
+   private static double cubic(final double x)
+   {
+      final double b = MITCHELL_B;
+      final double c = MITCHELL_C;
+
+      if(x < 1.0)
+      {
+         return ((12 - 9*b - 6*c) * x*x*x + (-18 + 12*b + 6*c) * x*x + (6 - 2*b)) / 6.0;
+      }
+      else if(x < 2.0)
+      {
+         return ((-b - 6*c) * x*x*x + (6*b + 30*c) * x*x + (-12*b - 48*c) * x + (8*b + 24*c)) / 6.0;
+      }
+      return 0.0;
+   }
+
+   /**
+    * checkRadius - Validates a Kernel Radius
+    *
+    * @param radius - The Radius
+    * @return int   - The Radius
+    */
+   private static int checkRadius(final int radius)
+   {
+      if(radius < 0)
+      {
+         throw new IllegalArgumentException("Invalid kernel radius " + radius);
+      }
+      return radius;
+   }
+
+   /**
+    * checkStretch - Validates a Kernel Stretch
+    *
+    * @param stretch - The Stretch
+    */
+   private static void checkStretch(final double stretch)
+   {
+      if(!(stretch >= 1.0))
+      {
+         throw new IllegalArgumentException("Invalid kernel stretch " + stretch);
+      }
+   }
+}
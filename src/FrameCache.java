@@ -0,0 +1,233 @@
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * FrameCache - Bounded LRU cache of rendered Radial Image frames.
+ *
+ *              A Radial Image with n spokes looks the same after a rotation of
+ *              360/n degrees, so frames are keyed by their phase modulo that period,
+ *              quantized to a fixed step, together with the filters applied to them.
+ *              The key does not hold the spokes or dimensions, so one cache holds the
+ *              frames of one Radial Image. Cached frames are shared and must not be
+ *              modified
+ */
+public final class FrameCache
+{
+   // Default Memory Cap (Bytes)
+   public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+   // Default Quantization Step (Degrees)
+   public static final double DEFAULT_STEP = 0.01;
+
+   // Frames by Key, in Access Order
+   private final LinkedHashMap<Long, BufferedImage> _frames = new LinkedHashMap<Long, BufferedImage>(16, 0.75f, true);
+
+   // Memory Cap (Bytes)
+   private final long _maxBytes;
+
+   // Quantization Step (Degrees)
+   private final double _step;
+
+   // Memory held by Cached Frames (Bytes)
+   private long _bytes;
+
+   // Hit/Miss Counters
+   private long _hits;
+   private long _misses;
+
+   /**
+    * Constructor
+    */
+   public FrameCache()
+   {
+      this(DEFAULT_MAX_BYTES, DEFAULT_STEP);
+   }
+
+   /**
+    * Constructor
+    *
+    * @param maxBytes - Memory Cap of the Cached Frames (Bytes)
+    * @param step     - Quantization Step of the Phase (Degrees)
+    */
+   public FrameCache(final long maxBytes, final double step)
+   {
+      if((maxBytes < 0) || !(step > 0))
+      {
+         throw new IllegalArgumentException("Invalid frame cache size " + maxBytes + " or step " + step);
+      }
+
+      _maxBytes = maxBytes;
+      _step = step;
+   }
+
+   /**
+    * snap - Gets the quantized Phase a frame is rendered at
+    *
+    * @param phase   - Rotation of the Frame (Degrees)
+    * @param period  - Rotational Symmetry of the Image (Degrees)
+    * @return double - The quantized Phase (0 <= phase < period)
+    */
+   public double snap(final double phase, final double period)
+   {
+      return getIndex(phase, period) * _step;
+   }
+
+   /**
+    * get - Gets a cached Frame
+    *
+    * @param phase          - Rotation of the Frame (Degrees)
+    * @param period         - Rotational Symmetry of the Image (Degrees)
+    * @param mode           - Filters applied to the Frame
+    * @return BufferedImage - The cached Frame, or null on a miss
+    */
+   public synchronized BufferedImage get(final double phase, final double period, final int mode)
+   {
+      final BufferedImage frame = _frames.get(getKey(phase, period, mode));
+
+      if(frame != null)
+      {
+         ++_hits;
+      }
+      else
+      {
+         ++_misses;
+      }
+
+      return frame;
+   }
+
+   /**
+    * put - Caches a Frame, evicting the least recently used Frames above the Memory Cap
+    *
+    * @param phase  - Rotation of the Frame (Degrees)
+    * @param period - Rotational Symmetry of the Image (Degrees)
+    * @param mode   - Filters applied to the Frame
+    * @param frame  - The Frame
+    */
+   public synchronized void put(final double phase, final double period, final int mode, final BufferedImage frame)
+   {
+      final long size = getBytes(frame);
+
+      // Check if the Frame fits in the Cache at all
+      if(size > _maxBytes)
+      {
+         return;
+      }
+
+      final BufferedImage previous = _frames.put(getKey(phase, period, mode), frame);
+      if(previous != null)
+      {
+         _bytes -= getBytes(previous);
+      }
+      _bytes += size;
+
+      // Evict least recently used Frames
+      final Iterator<Map.Entry<Long, BufferedImage>> it = _frames.entrySet().iterator();
+      while((_bytes > _maxBytes) && it.hasNext())
+      {
+         _bytes -= getBytes(it.next().getValue());
+         it.remove();
+      }
+   }
+
+   /**
+    * clear - Removes all cached Frames
+    */
+   public synchronized void clear()
+   {
+      _frames.clear();
+      _bytes = 0;
+   }
+
+   /**
+    * getHits - Gets the Number of Cache Hits
+    *
+    * @return long
+    */
+   public synchronized long getHits()
+   {
+      return _hits;
+   }
+
+   /**
+    * getMisses - Gets the Number of Cache Misses
+    *
+    * @return long
+    */
+   public synchronized long getMisses()
+   {
+      return _misses;
+   }
+
+   /**
+    * getSize - Gets the Number of cached Frames
+    *
+    * @return int
+    */
+   public synchronized int getSize()
+   {
+      return _frames.size();
+   }
+
+   /**
+    * getBytes - Gets the Memory held by cached Frames
+    *
+    * @return long
+    */
+   public synchronized long getBytes()
+   {
+      return _bytes;
+   }
+
+   /**
+    * getKey - Gets the Cache Key of a Frame
+    *
+    * @param phase  - Rotation of the Frame (Degrees)
+    * @param period - Rotational Symmetry of the Image (Degrees)
+    * @param mode   - Filters applied to the Frame
+    * @return long  - The Key
+    */
+   private long getKey(final double phase, final double period, final int mode)
+   {
+      return (getIndex(phase, period) << 8) | (mode & 0xff);
+   }
+
+   /**
+    * getIndex - Gets the quantized Phase modulo the Period as a number of steps
+    *
+    * @param phase  - Rotation of the Frame (Degrees)
+    * @param period - Rotational Symmetry of the Image (Degrees)
+    * @return long  - Number of Steps
+    */
+   private long getIndex(final double phase, final double period)
+   {
+      // Normalize Phase (0 <= p < period)
+      double p = phase % period;
+      if(p < 0)
+      {
+         p += period;
+      }
+
+      // Wrap Phases that round up to a full Period
+      final long index = Math.round(p / _step);
+      if((index * _step) > (period - (_step / 2)))
+      {
+         return 0;
+      }
+
+      return index;
+   }
+
+   /**
+    * getBytes - Gets the Memory held by a Frame
+    *
+    * @param frame - The Frame
+    * @return long - Size in Bytes
+    */
+   private static long getBytes(final BufferedImage frame)
+   {
+      return 4L * frame.getWidth() * frame.getHeight();
+   }
+}
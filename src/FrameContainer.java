@@ -0,0 +1,466 @@
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * FrameContainer - File of equally sized frames behind a fixed header, written and
+ *                  read through memory mapping.
+ *
+ *                  The header holds the width, height, frame rate, frame count and
+ *                  pixel format, and frame i starts at a fixed offset after it, so a
+ *                  frame is written by copying its pixels into its slot, in any order
+ *                  and from any thread, and read by slicing the mapped file without
+ *                  decoding. Frames are mapped in chunks of about 64 MB, each mapped
+ *                  once. The frame count only advances over the frames written without
+ *                  a gap from frame 0, and reaches the header once their chunk is full
+ *                  and forced to the file, or on close, so the header never counts a
+ *                  frame that is not stored, even if the file is never closed. The
+ *                  last chunk may leave unused space at the end of the file.
+ *
+ *                  Read containers map every chunk when opened, so reading a frame
+ *                  never touches the channel, and an interrupted reader thread cannot
+ *                  close it under another reader
+ *
+ *                  Layout (big-endian):
+ *                   0 magic "RFRC", 4 version, 8 width, 12 height, 16 fps (double),
+ *                   24 frame count (long), 32 pixel format, 36..63 reserved,
+ *                   64 frames (width * height ARGB ints each, row-major)
+ */
+public final class FrameContainer implements Closeable
+{
+   // Pixel Formats
+   public static final int PIXEL_FORMAT_ARGB = 1;
+
+   // Size of the Header (Bytes, Frames start after it)
+   public static final int HEADER_BYTES = 64;
+
+   // Size of a mapped Chunk of Frames (Bytes, rounded down to whole Frames)
+   private static final long CHUNK_BYTES = 64L * 1024 * 1024;
+
+   // Magic Number ("RFRC") and Version of the Format
+   private static final int MAGIC = 0x52465243;
+   private static final int VERSION = 1;
+
+   // Offsets of the Header Fields
+   private static final int MAGIC_OFFSET = 0;
+   private static final int VERSION_OFFSET = 4;
+   private static final int WIDTH_OFFSET = 8;
+   private static final int HEIGHT_OFFSET = 12;
+   private static final int FPS_OFFSET = 16;
+   private static final int COUNT_OFFSET = 24;
+   private static final int FORMAT_OFFSET = 32;
+
+   // File Channel of the Container
+   private final FileChannel _channel;
+
+   // Indicator if Frames can be written
+   private final boolean _isWritable;
+
+   // Mapped Header (writable Containers)
+   private final MappedByteBuffer _header;
+
+   // Mapped Chunks of Frames (null while not mapped, or once stored)
+   private final List<MappedByteBuffer> _chunks = new ArrayList<MappedByteBuffer>();
+
+   // Width/Height of the Frames
+   private final int _width;
+   private final int _height;
+
+   // Frames per Second
+   private final double _fps;
+
+   // Size of a Frame (Bytes)
+   private final long _frameBytes;
+
+   // Number of Frames in a Chunk
+   private final int _chunkFrames;
+
+   // Number of Frames (written without a gap from Frame 0)
+   private long _frameCount;
+
+   // Indices of written Frames after the first missing Frame
+   private final TreeSet<Long> _written = new TreeSet<Long>();
+
+   // Number of Frames stored and counted in the Header
+   private long _storedCount;
+
+   /**
+    * Constructor
+    *
+    * @param channel    - File Channel of the Container
+    * @param isWritable - Indicator if Frames can be written
+    * @param header     - The Header
+    * @throws IOException
+    */
+   private FrameContainer(final FileChannel channel, final boolean isWritable, final ByteBuffer header) throws IOException
+   {
+      if((header.getInt(MAGIC_OFFSET) != MAGIC) || (header.getInt(VERSION_OFFSET) != VERSION)
+         || (header.getInt(FORMAT_OFFSET) != PIXEL_FORMAT_ARGB))
+      {
+         throw new IOException("Not a frame container");
+      }
+
+      _channel = channel;
+      _isWritable = isWritable;
+      _width = header.getInt(WIDTH_OFFSET);
+      _height = header.getInt(HEIGHT_OFFSET);
+      _fps = header.getDouble(FPS_OFFSET);
+      _frameCount = header.getLong(COUNT_OFFSET);
+      _storedCount = _frameCount;
+      _frameBytes = 4L * _width * _height;
+      _chunkFrames = (int) Math.max(1, CHUNK_BYTES / Math.max(1, _frameBytes));
+
+      if((_width < 1) || (_height < 1) || (_frameCount < 0)
+         || (channel.size() < (HEADER_BYTES + (_frameCount * _frameBytes))))
+      {
+         throw new IOException("Truncated frame container");
+      }
+
+      _header = isWritable ? (MappedByteBuffer) header : null;
+
+      // Map every Chunk of a read Container once
+      if(!isWritable)
+      {
+         for(long first = 0; first < _frameCount; first += _chunkFrames)
+         {
+            final long frames = Math.min(_chunkFrames, _frameCount - first);
+            _chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, getOffset(first), frames * _frameBytes));
+         }
+      }
+   }
+
+   /**
+    * create - Creates an empty Container, replacing any existing File
+    *
+    * @param file            - The File
+    * @param width           - Width of the Frames
+    * @param height          - Height of the Frames
+    * @param fps             - Frames per Second
+    * @return FrameContainer - The writable Container
+    * @throws IOException
+    */
+   public static FrameContainer create(final File file, final int width, final int height, final double fps) throws IOException
+   {
+      if((width < 1) || (height < 1) || !(fps > 0))
+      {
+         throw new IllegalArgumentException("Invalid frame size " + width + "x" + height + " or fps " + fps);
+      }
+
+      final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                   StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+      try
+      {
+         final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+         header.putInt(MAGIC_OFFSET, MAGIC);
+         header.putInt(VERSION_OFFSET, VERSION);
+         header.putInt(WIDTH_OFFSET, width);
+         header.putInt(HEIGHT_OFFSET, height);
+         header.putDouble(FPS_OFFSET, fps);
+         header.putLong(COUNT_OFFSET, 0);
+         header.putInt(FORMAT_OFFSET, PIXEL_FORMAT_ARGB);
+
+         return new FrameContainer(channel, true, header);
+      }
+      catch(IOException e)
+      {
+         channel.close();
+         throw e;
+      }
+   }
+
+   /**
+    * open - Opens an existing Container for reading
+    *
+    * @param file            - The File
+    * @return FrameContainer - The read-only Container
+    * @throws IOException
+    */
+   public static FrameContainer open(final File file) throws IOException
+   {
+      final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+      try
+      {
+         if(channel.size() < HEADER_BYTES)
+         {
+            throw new IOException("Not a frame container");
+         }
+
+         return new FrameContainer(channel, false, channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES));
+      }
+      catch(IOException e)
+      {
+         channel.close();
+         throw e;
+      }
+   }
+
+   /**
+    * append - Writes a Frame after the last Frame
+    *
+    * @param frame - The Frame (width x height)
+    * @throws IOException
+    */
+   public synchronized void append(final BufferedImage frame) throws IOException
+   {
+      write(_frameCount, frame);
+   }
+
+   /**
+    * write - Writes the Frame with an Index, in any Order
+    *
+    * @param index - Index of the Frame
+    * @param frame - The Frame (width x height)
+    * @throws IOException
+    */
+   public void write(final long index, final BufferedImage frame) throws IOException
+   {
+      if((frame.getWidth() != _width) || (frame.getHeight() != _height))
+      {
+         throw new IllegalArgumentException("Frame is " + frame.getWidth() + "x" + frame.getHeight()
+                                            + ", container is " + _width + "x" + _height);
+      }
+
+      write(index, ImageRaster.getPixels(frame));
+   }
+
+   /**
+    * write - Writes the Pixels of the Frame with an Index, in any Order
+    *
+    * @param index  - Index of the Frame
+    * @param pixels - Pixels of the Frame (row-major)
+    * @throws IOException
+    */
+   public void write(final long index, final int[] pixels) throws IOException
+   {
+      if(!_isWritable)
+      {
+         throw new IllegalStateException("Frame container is read-only");
+      }
+      if((index < 0) || (pixels.length != (_width * _height)))
+      {
+         throw new IllegalArgumentException("Invalid frame " + index + " of " + pixels.length + " pixels");
+      }
+
+      // Copy the Pixels into the Slot of the Frame in its mapped Chunk
+      getChunk(index).asIntBuffer().put((int) (index % _chunkFrames) * pixels.length, pixels);
+
+      synchronized(this)
+      {
+         // Count the Frames up to the next missing Frame
+         if(index >= _frameCount)
+         {
+            _written.add(index);
+            while(_written.remove(_frameCount))
+            {
+               ++_frameCount;
+            }
+
+            // Store the Chunks filled by the counted Frames
+            if((_frameCount / _chunkFrames) > (_storedCount / _chunkFrames))
+            {
+               store((_frameCount / _chunkFrames) * _chunkFrames);
+            }
+         }
+      }
+   }
+
+   /**
+    * getFrame - Gets the Pixels of a Frame in place
+    *
+    * @param index      - Index of the Frame
+    * @return IntBuffer - Read-only view of the Pixels (row-major ARGB)
+    * @throws IOException
+    */
+   public IntBuffer getFrame(final long index) throws IOException
+   {
+      if((index < 0) || (index >= getFrameCount()))
+      {
+         throw new IndexOutOfBoundsException("Frame " + index + " of " + getFrameCount());
+      }
+
+      // Slice the Frame out of its mapped Chunk
+      return getChunk(index).slice((int) ((index % _chunkFrames) * _frameBytes), (int) _frameBytes)
+                            .asIntBuffer().asReadOnlyBuffer();
+   }
+
+   /**
+    * readImage - Copies a Frame into a new Image
+    *
+    * @param index          - Index of the Frame
+    * @return BufferedImage - The Frame
+    * @throws IOException
+    */
+   public BufferedImage readImage(final long index) throws IOException
+   {
+      final BufferedImage image = ImageRaster.createImage(_width, _height);
+      getFrame(index).get(ImageRaster.getData(image));
+      return image;
+   }
+
+   /**
+    * createRenderer - Creates a Renderer that plays the Frames in a Loop
+    *
+    * @return FramePipeline.Renderer - Renderer of the Frame with each Index
+    */
+   public FramePipeline.Renderer createRenderer()
+   {
+      if(getFrameCount() == 0)
+      {
+         throw new IllegalStateException("Frame container is empty");
+      }
+
+      return new FramePipeline.Renderer()
+      {
+         @Override
+         public void render(final long index, final BufferedImage frame)
+         {
+            try
+            {
+               getFrame(index % getFrameCount()).get(ImageRaster.getData(frame));
+            }
+            catch(IOException e)
+            {
+               throw new IllegalStateException("Cannot read frame " + index, e);
+            }
+         }
+      };
+   }
+
+   /**
+    * getWidth - Gets the Width of the Frames
+    *
+    * @return int
+    */
+   public int getWidth()
+   {
+      return _width;
+   }
+
+   /**
+    * getHeight - Gets the Height of the Frames
+    *
+    * @return int
+    */
+   public int getHeight()
+   {
+      return _height;
+   }
+
+   /**
+    * getFps - Gets the Frames per Second
+    *
+    * @return double
+    */
+   public double getFps()
+   {
+      return _fps;
+   }
+
+   /**
+    * getFrameCount - Gets the Number of Frames written without a gap from Frame 0
+    *
+    * @return long
+    */
+   public synchronized long getFrameCount()
+   {
+      return _frameCount;
+   }
+
+   /**
+    * getPixelFormat - Gets the Pixel Format of the Frames
+    *
+    * @return int - PIXEL_FORMAT_ARGB
+    */
+   public int getPixelFormat()
+   {
+      return PIXEL_FORMAT_ARGB;
+   }
+
+   @Override
+   public synchronized void close() throws IOException
+   {
+      if(_header != null)
+      {
+         store(_frameCount);
+      }
+      _chunks.clear();
+      _channel.close();
+   }
+
+   /**
+    * getChunk - Gets the mapped Chunk holding a Frame, mapping it if needed
+    *
+    * @param index             - Index of the Frame
+    * @return MappedByteBuffer - The Chunk
+    * @throws IOException
+    */
+   private synchronized MappedByteBuffer getChunk(final long index) throws IOException
+   {
+      final int chunk = (int) (index / _chunkFrames);
+      while(_chunks.size() <= chunk)
+      {
+         _chunks.add(null);
+      }
+
+      MappedByteBuffer buffer = _chunks.get(chunk);
+      if(buffer == null)
+      {
+         if(!_isWritable)
+         {
+            throw new IllegalStateException("Frame container is closed");
+         }
+
+         buffer = _channel.map(FileChannel.MapMode.READ_WRITE, getOffset((long) chunk * _chunkFrames),
+                               _chunkFrames * _frameBytes);
+         _chunks.set(chunk, buffer);
+      }
+
+      return buffer;
+   }
+
+   /**
+    * store - Forces the Chunks of the first Frames to the File, then counts the
+    *         Frames in the Header. Chunks of only stored Frames are unmapped
+    *
+    * @param count - Number of Frames to store (written without a gap)
+    */
+   private void store(final long count)
+   {
+      for(int chunk = 0; (chunk < _chunks.size()) && (((long) chunk * _chunkFrames) < count); ++chunk)
+      {
+         final MappedByteBuffer buffer = _chunks.get(chunk);
+         if(buffer != null)
+         {
+            buffer.force();
+            if((((long) chunk + 1) * _chunkFrames) <= count)
+            {
+               _chunks.set(chunk, null);
+            }
+         }
+      }
+
+      _storedCount = count;
+      _header.putLong(COUNT_OFFSET, _storedCount);
+      _header.force();
+   }
+
+   /**
+    * getOffset - Gets the Offset of a Frame in the File
+    *
+    * @param index - Index of the Frame
+    * @return long - Offset (Bytes)
+    */
+   private long getOffset(final long index)
+   {
+      return HEADER_BYTES + (index * _frameBytes);
+   }
+}
@@ -0,0 +1,216 @@
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FramePipeline - Renders frames ahead of display on a background thread.
+ *
+ *                 The producer thread renders frames in order into a fixed pool of
+ *                 images, blocking while none is free, so the Event Dispatch Thread
+ *                 only has to take a ready frame and repaint. The consumer releases
+ *                 each frame once it is no longer shown, and its image is reused for
+ *                 a later frame, so rendering allocates no frames. A failure of the
+ *                 renderer stops the producer and is kept for the consumer to report
+ */
+public final class FramePipeline
+{
+   /**
+    * Renderer - Renders the frame with a given index
+    */
+   public interface Renderer
+   {
+      /**
+       * render - Renders a Frame into a reused Image
+       *
+       * @param index - Index of the Frame (0 for the first frame)
+       * @param frame - Image to draw the Frame into (int packed, every pixel is drawn)
+       */
+      void render(long index, BufferedImage frame);
+   }
+
+   /**
+    * Frame - A rendered Frame and its Index
+    */
+   public static final class Frame
+   {
+      // Index of the Frame
+      private final long _index;
+
+      // Image of the Frame
+      private final BufferedImage _image;
+
+      /**
+       * Constructor
+       *
+       * @param index - Index of the Frame
+       * @param image - Image of the Frame
+       */
+      Frame(final long index, final BufferedImage image)
+      {
+         _index = index;
+         _image = image;
+      }
+
+      /**
+       * getIndex - Gets the Index of the Frame
+       *
+       * @return long
+       */
+      public long getIndex()
+      {
+         return _index;
+      }
+
+      /**
+       * getImage - Gets the Image of the Frame
+       *
+       * @return BufferedImage
+       */
+      public BufferedImage getImage()
+      {
+         return _image;
+      }
+   }
+
+   // Default Number of Frames rendered ahead
+   public static final int DEFAULT_CAPACITY = 3;
+
+   // Rendered Frames ready for display
+   private final BlockingQueue<Frame> _ready;
+
+   // Images free to render a Frame into
+   private final BlockingQueue<BufferedImage> _free;
+
+   // Lowest Index of the next Frame to render
+   private final AtomicLong _nextIndex = new AtomicLong();
+
+   // Producer Thread
+   private final Thread _producer;
+
+   // Failure that stopped the Producer Thread (null while rendering)
+   private volatile Throwable _failure;
+
+   /**
+    * Constructor
+    *
+    * @param name     - Name of the Producer Thread
+    * @param capacity - Number of Frames rendered ahead
+    * @param width    - Width of the Frames
+    * @param height   - Height of the Frames
+    * @param renderer - Renderer of the Frames
+    */
+   public FramePipeline(final String name, final int capacity, final int width, final int height, final Renderer renderer)
+   {
+      _ready = new ArrayBlockingQueue<Frame>(capacity);
+
+      // One Image per ready Frame, plus the Frame being rendered and the Frame shown
+      _free = new ArrayBlockingQueue<BufferedImage>(capacity + 2);
+      for(int i = 0; i < (capacity + 2); ++i)
+      {
+         _free.add(ImageRaster.createImage(width, height));
+      }
+
+      _producer = new Thread(new Runnable()
+      {
+         @Override
+         public void run()
+         {
+            try
+            {
+               // Render Frames in order until stopped, skipping ahead when requested
+               for(long index = 0; !Thread.currentThread().isInterrupted(); ++index)
+               {
+                  index = Math.max(index, _nextIndex.get());
+
+                  final BufferedImage image = _free.take();
+                  renderer.render(index, image);
+                  _ready.put(new Frame(index, image));
+               }
+            }
+            catch(InterruptedException e)
+            {
+               // Pipeline was stopped
+            }
+            catch(Throwable t)
+            {
+               // Renderer failed, no more Frames will be ready
+               _failure = t;
+            }
+         }
+      }, name);
+      _producer.setDaemon(true);
+   }
+
+   /**
+    * start - Starts rendering Frames
+    */
+   public void start()
+   {
+      _producer.start();
+   }
+
+   /**
+    * stop - Stops rendering Frames
+    */
+   public void stop()
+   {
+      _producer.interrupt();
+      _ready.clear();
+   }
+
+   /**
+    * poll - Takes the next ready Frame without waiting
+    *
+    * @return Frame - The next Frame, or null if none is ready
+    */
+   public Frame poll()
+   {
+      return _ready.poll();
+   }
+
+   /**
+    * peek - Gets the next ready Frame without taking it
+    *
+    * @return Frame - The next Frame, or null if none is ready
+    */
+   public Frame peek()
+   {
+      return _ready.peek();
+   }
+
+   /**
+    * release - Returns the Image of a Frame that is no longer shown, or was
+    *           dropped, for a later Frame
+    *
+    * @param frame - The Frame
+    */
+   public void release(final Frame frame)
+   {
+      _free.offer(frame.getImage());
+   }
+
+   /**
+    * getFailure - Gets the Failure that stopped rendering Frames
+    *
+    * @return Throwable - The Failure, or null if Frames are still rendered
+    */
+   public Throwable getFailure()
+   {
+      return _failure;
+   }
+
+   /**
+    * skipTo - Makes the Producer continue at a later Frame when it is behind
+    *
+    * @param index - Lowest Index of the next Frame to render
+    */
+   public void skipTo(final long index)
+   {
+      long current = _nextIndex.get();
+      while((current < index) && !_nextIndex.compareAndSet(current, index))
+      {
+         current = _nextIndex.get();
+      }
+   }
+}
@@ -0,0 +1,93 @@
+import java.awt.AlphaComposite;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * FramePresenter - Presents Frames of a Component through a VolatileImage.
+ *
+ *                  Each new Frame is uploaded once into a VolatileImage compatible
+ *                  with the screen, which is then blitted on every paint. Lost
+ *                  contents are restored by uploading the Frame again. Headless or
+ *                  unsupported pipelines fall back to drawing the Frame directly
+ */
+public final class FramePresenter
+{
+   // Screen compatible Copy of the Frame
+   private VolatileImage _buffer;
+
+   // Frame currently held by the Buffer
+   private BufferedImage _uploaded;
+
+   /**
+    * present - Draws a Frame at (x, y)
+    *
+    * @param g         - Graphics of the Component
+    * @param component - The Component being painted
+    * @param frame     - The Frame to draw
+    * @param x
+    * @param y
+    */
+   public void present(final Graphics g, final Component component, final BufferedImage frame, final int x, final int y)
+   {
+      // Check if an accelerated Buffer can be used
+      final GraphicsConfiguration gc = component.getGraphicsConfiguration();
+      if((gc == null) || GraphicsEnvironment.isHeadless())
+      {
+         g.drawImage(frame, x, y, component);
+         return;
+      }
+
+      do
+      {
+         // Validate or (re)create the Buffer
+         final int status = (_buffer == null) ? VolatileImage.IMAGE_INCOMPATIBLE : _buffer.validate(gc);
+         if((status == VolatileImage.IMAGE_INCOMPATIBLE)
+            || (_buffer.getWidth() != frame.getWidth()) || (_buffer.getHeight() != frame.getHeight()))
+         {
+            flush();
+            _buffer = gc.createCompatibleVolatileImage(frame.getWidth(), frame.getHeight());
+         }
+         else if(status == VolatileImage.IMAGE_RESTORED)
+         {
+            _uploaded = null;
+         }
+
+         // Upload the Frame only when it changed
+         if(_uploaded != frame)
+         {
+            final Graphics2D bg = _buffer.createGraphics();
+            bg.setComposite(AlphaComposite.Src);
+            bg.drawImage(frame, 0, 0, null);
+            bg.dispose();
+            _uploaded = frame;
+         }
+
+         g.drawImage(_buffer, x, y, component);
+
+         // Upload again if the Contents were lost while drawing
+         if(_buffer.contentsLost())
+         {
+            _uploaded = null;
+         }
+      }
+      while(_uploaded == null);
+   }
+
+   /**
+    * flush - Releases the Buffer
+    */
+   public void flush()
+   {
+      if(_buffer != null)
+      {
+         _buffer.flush();
+         _buffer = null;
+      }
+      _uploaded = null;
+   }
+}
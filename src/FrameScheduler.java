@@ -0,0 +1,183 @@
+/**
+ * FrameScheduler - Fixed timestep schedule of an animation based on System.nanoTime.
+ *
+ *                  Frame k is due at start + k/fps, so the schedule never drifts
+ *                  from the requested frame rate regardless of timer resolution or
+ *                  render time. Frames that are skipped are counted as dropped, and
+ *                  frame slots in which no new frame was ready are counted as duplicated
+ */
+public final class FrameScheduler
+{
+   // Nanoseconds per Second
+   private static final double NANOS_PER_SECOND = 1.0e9;
+
+   // Requested Frames per Second
+   private final double _fps;
+
+   // Start of the Schedule (nanoTime)
+   private long _start;
+
+   // Index of the last Frame Slot that was reached
+   private long _slot = -1;
+
+   // Index of the last Frame that was presented
+   private long _presented = -1;
+
+   // Frame Counters
+   private long _presentedFrames;
+   private long _droppedFrames;
+   private long _duplicatedFrames;
+
+   /**
+    * Constructor
+    *
+    * @param fps - Requested Frames per Second
+    */
+   public FrameScheduler(final double fps)
+   {
+      if(!(fps > 0))
+      {
+         throw new IllegalArgumentException("Invalid frame rate " + fps);
+      }
+
+      _fps = fps;
+   }
+
+   /**
+    * start - Starts the Schedule at the current time
+    */
+   public synchronized void start()
+   {
+      _start = System.nanoTime();
+      _slot = -1;
+      _presented = -1;
+      _presentedFrames = 0;
+      _droppedFrames = 0;
+      _duplicatedFrames = 0;
+   }
+
+   /**
+    * getTargetIndex - Gets the Index of the Frame due at the given time
+    *
+    * @param now   - The Time (nanoTime)
+    * @return long - Index of the Frame due
+    */
+   public synchronized long getTargetIndex(final long now)
+   {
+      return (long) Math.floor(((now - _start) / NANOS_PER_SECOND) * _fps);
+   }
+
+   /**
+    * getPhase - Gets the Rotation of a Frame
+    *
+    * @param startPhase - Rotation of Frame 0 (Degrees)
+    * @param theta      - Rotation per Frame (Degrees)
+    * @param index      - Index of the Frame
+    * @return double    - Rotation of the Frame (Degrees)
+    */
+   public static double getPhase(final double startPhase, final double theta, final long index)
+   {
+      return startPhase + (theta * index);
+   }
+
+   /**
+    * advance - Moves the Schedule to a Frame Slot, counting the slots that
+    *           passed without their own frame as duplicated
+    *
+    * @param slot     - Index of the Frame Slot reached
+    * @return boolean - True if a new Frame Slot was reached
+    */
+   public synchronized boolean advance(final long slot)
+   {
+      if(slot <= _slot)
+      {
+         return false;
+      }
+
+      // Count skipped Slots and a previous Slot without its own Frame as duplicated
+      if(_slot >= 0)
+      {
+         _duplicatedFrames += (slot - _slot - 1) + ((_presented == _slot) ? 0 : 1);
+      }
+
+      _slot = slot;
+      return true;
+   }
+
+   /**
+    * present - Records that a Frame was presented
+    *
+    * @param index - Index of the presented Frame
+    */
+   public synchronized void present(final long index)
+   {
+      _presented = index;
+      ++_presentedFrames;
+   }
+
+   /**
+    * drop - Records that a Frame was dropped
+    */
+   public synchronized void drop()
+   {
+      ++_droppedFrames;
+   }
+
+   /**
+    * getRequestedFps - Gets the Requested Frames per Second
+    *
+    * @return double
+    */
+   public double getRequestedFps()
+   {
+      return _fps;
+   }
+
+   /**
+    * getAchievedFps - Gets the Frames per Second presented since the Schedule started
+    *
+    * @return double
+    */
+   public synchronized double getAchievedFps()
+   {
+      final double elapsed = (System.nanoTime() - _start) / NANOS_PER_SECOND;
+      return (elapsed > 0) ? (_presentedFrames / elapsed) : 0.0;
+   }
+
+   /**
+    * getPresentedFrames - Gets the Number of presented Frames
+    *
+    * @return long
+    */
+   public synchronized long getPresentedFrames()
+   {
+      return _presentedFrames;
+   }
+
+   /**
+    * getDroppedFrames - Gets the Number of Frames skipped without being presented
+    *
+    * @return long
+    */
+   public synchronized long getDroppedFrames()
+   {
+      return _droppedFrames;
+   }
+
+   /**
+    * getDuplicatedFrames - Gets the Number of Frame Slots that kept showing the previous Frame
+    *
+    * @return long
+    */
+   public synchronized long getDuplicatedFrames()
+   {
+      return _duplicatedFrames;
+   }
+
+   @Override
+   public synchronized String toString()
+   {
+      return String.format("requested %.2f fps, achieved %.2f fps, %d presented, %d dropped, %d duplicated",
+                           _fps, getAchievedFps(), _presentedFrames, _droppedFrames, _duplicatedFrames);
+   }
+}
@@ -0,0 +1,408 @@
+import java.awt.image.BufferedImage;
+
+/**
+ * ImageMetrics - Quality Metrics between two images of the same dimensions: per
+ *                channel and combined Mean Squared Error, PSNR and SSIM.
+ *
+ *                All metrics come from one row-major pass over the packed pixels in
+ *                parallel row bands, which sums x, y, x^2, y^2 and xy of every channel
+ *                into exact long accumulators for MSE and PSNR. SSIM is the mean SSIM
+ *                of every 7x7 window inside the image (smaller images use one window
+ *                as wide as their smaller side). Each band slides the same five sums
+ *                over the windows starting in its rows, down the columns and then along
+ *                each row, like BoxFilter, so the cost per pixel does not depend on the
+ *                window size
+ */
+public final class ImageMetrics
+{
+   // Channels (in the order of getMse/getPsnr/getSsim)
+   public static final int RED = 0;
+   public static final int GREEN = 1;
+   public static final int BLUE = 2;
+   private static final int CHANNELS = 3;
+
+   // Peak Channel Value
+   private static final double PEAK = 255.0;
+
+   // Side of the square SSIM Windows (Pixels)
+   private static final int SSIM_WINDOW = 7;
+
+   // SSIM Stabilizing Constants ((0.01 * PEAK)^2, (0.03 * PEAK)^2)
+   private static final double C1 = (0.01 * PEAK) * (0.01 * PEAK);
+   private static final double C2 = (0.03 * PEAK) * (0.03 * PEAK);
+
+   // Accumulators of each Channel (sum x, sum y, sum x^2, sum y^2, sum xy)
+   private static final int SUM_X = 0;
+   private static final int SUM_Y = 1;
+   private static final int SUM_XX = 2;
+   private static final int SUM_YY = 3;
+   private static final int SUM_XY = 4;
+   private static final int SUMS = 5;
+
+   // Number of Pixels compared
+   private final long _pixels;
+
+   // Per Channel Metrics
+   private final double[] _mse = new double[CHANNELS];
+   private final double[] _ssim = new double[CHANNELS];
+
+   /**
+    * Constructor
+    *
+    * @param sums    - Accumulators of each Channel
+    * @param pixels  - Number of Pixels compared
+    * @param ssims   - Sums of the SSIM of every Window of each Channel
+    * @param windows - Number of SSIM Windows
+    */
+   private ImageMetrics(final long[] sums, final long pixels, final double[] ssims, final long windows)
+   {
+      _pixels = pixels;
+
+      for(int c = 0; c < CHANNELS; ++c)
+      {
+         final int base = c * SUMS;
+         final double n = pixels;
+
+         // Squared Error is x^2 + y^2 - 2xy summed
+         _mse[c] = (sums[base + SUM_XX] + sums[base + SUM_YY] - (2 * sums[base + SUM_XY])) / n;
+
+         _ssim[c] = ssims[c] / windows;
+      }
+   }
+
+   /**
+    * compare - Computes the Metrics between two Images
+    *
+    * @param img1          - The First Image
+    * @param img2          - The Second Image (same dimensions)
+    * @return ImageMetrics - The Metrics
+    */
+   public static ImageMetrics compare(final BufferedImage img1, final BufferedImage img2)
+   {
+      if((img1.getWidth() != img2.getWidth()) || (img1.getHeight() != img2.getHeight()))
+      {
+         throw new IllegalArgumentException("Cannot compare " + img1.getWidth() + "x" + img1.getHeight()
+                                            + " image to " + img2.getWidth() + "x" + img2.getHeight() + " image");
+      }
+
+      return compare(ImageRaster.getPixels(img1), ImageRaster.getPixels(img2), img1.getWidth(), img1.getHeight());
+   }
+
+   /**
+    * compare - Computes the Metrics between the Pixels of two Images
+    *
+    * @param src1          - Pixels of the First Image (row-major)
+    * @param src2          - Pixels of the Second Image (row-major)
+    * @param width         - Width of the Images
+    * @param height        - Height of the Images
+    * @return ImageMetrics - The Metrics
+    */
+   public static ImageMetrics compare(final int[] src1, final int[] src2, final int width, final int height)
+   {
+      // SSIM Windows, with Top Rows [0, windowRows)
+      final int window = Math.min(SSIM_WINDOW, Math.min(width, height));
+      final int windowRows = height - window + 1;
+
+      // Accumulators of each Band (Bands start at multiples of BAND_HEIGHT)
+      final int bands = (height + ImageRaster.BAND_HEIGHT - 1) / ImageRaster.BAND_HEIGHT;
+      final long[][] bandSums = new long[bands][CHANNELS * SUMS];
+      final double[][] bandSsims = new double[bands][CHANNELS];
+
+      ImageRaster.forEachBand(height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            final int band = startY / ImageRaster.BAND_HEIGHT;
+            accumulate(src1, src2, startY * width, endY * width, bandSums[band]);
+            accumulateSsim(src1, src2, width, window, startY, Math.min(endY, windowRows), bandSsims[band]);
+         }
+      });
+
+      // Combine the Bands
+      final long[] sums = new long[CHANNELS * SUMS];
+      final double[] ssims = new double[CHANNELS];
+      for(int b = 0; b < bands; ++b)
+      {
+         for(int i = 0; i < sums.length; ++i)
+         {
+            sums[i] += bandSums[b][i];
+         }
+         for(int c = 0; c < CHANNELS; ++c)
+         {
+            ssims[c] += bandSsims[b][c];
+         }
+      }
+
+      return new ImageMetrics(sums, (long) width * height, ssims, (long) (width - window + 1) * windowRows);
+   }
+
+   /**
+    * getMse - Gets the Mean Squared Error of a Channel
+    *
+    * @param channel - RED, GREEN or BLUE
+    * @return double
+    */
+   public double getMse(final int channel)
+   {
+      return _mse[channel];
+   }
+
+   /**
+    * getMse - Gets the Mean Squared Error over all Channels
+    *
+    * @return double
+    */
+   public double getMse()
+   {
+      return (_mse[RED] + _mse[GREEN] + _mse[BLUE]) / CHANNELS;
+   }
+
+   /**
+    * getPsnr - Gets the Peak Signal to Noise Ratio of a Channel
+    *
+    * @param channel - RED, GREEN or BLUE
+    * @return double - PSNR in dB (infinite for identical Channels)
+    */
+   public double getPsnr(final int channel)
+   {
+      return toPsnr(_mse[channel]);
+   }
+
+   /**
+    * getPsnr - Gets the Peak Signal to Noise Ratio over all Channels
+    *
+    * @return double - PSNR in dB (infinite for identical Images)
+    */
+   public double getPsnr()
+   {
+      return toPsnr(getMse());
+   }
+
+   /**
+    * getSsim - Gets the mean Structural Similarity of the Windows of a Channel
+    *
+    * @param channel - RED, GREEN or BLUE
+    * @return double - SSIM (1 for identical Channels)
+    */
+   public double getSsim(final int channel)
+   {
+      return _ssim[channel];
+   }
+
+   /**
+    * getSsim - Gets the mean Structural Similarity of the Windows of all Channels
+    *
+    * @return double - SSIM (1 for identical Images)
+    */
+   public double getSsim()
+   {
+      return (_ssim[RED] + _ssim[GREEN] + _ssim[BLUE]) / CHANNELS;
+   }
+
+   /**
+    * getPixels - Gets the Number of Pixels compared
+    *
+    * @return long
+    */
+   public long getPixels()
+   {
+      return _pixels;
+   }
+
+   /**
+    * toPsnr - Converts a Mean Squared Error to a Peak Signal to Noise Ratio
+    *
+    * @param mse     - Mean Squared Error
+    * @return double - PSNR in dB (positive infinity for an MSE of 0, which callers
+    *                  writing or averaging PSNR values must expect)
+    */
+   public static double toPsnr(final double mse)
+   {
+      return 10.0 * Math.log10((PEAK * PEAK) / mse);
+   }
+
+   @Override
+   public String toString()
+   {
+      return "MSE " + getMse() + ", PSNR " + getPsnr() + ", SSIM " + getSsim();
+   }
+
+   /**
+    * accumulate - Sums the Pixels [start, end) of both Images into the Accumulators
+    *
+    * @param src1  - Pixels of the First Image
+    * @param src2  - Pixels of the Second Image
+    * @param start - First Pixel
+    * @param end   - Pixel after the last Pixel
+    * @param sums  - Accumulators of each Channel
+    */
+   private static void accumulate(final int[] src1, final int[] src2, final int start, final int end, final long[] sums)
+   {
+      for(int c = 0; c < CHANNELS; ++c)
+      {
+         final int shift = 16 - (8 * c);
+
+         // Sums of one Row fit an int only for narrow Images, so keep longs
+         long sumX = 0;
+         long sumY = 0;
+         long sumXX = 0;
+         long sumYY = 0;
+         long sumXY = 0;
+
+         for(int p = start; p < end; ++p)
+         {
+            final int x = (src1[p] >> shift) & 0xff;
+            final int y = (src2[p] >> shift) & 0xff;
+
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumYY += y * y;
+            sumXY += x * y;
+         }
+
+         final int base = c * SUMS;
+         sums[base + SUM_X] += sumX;
+         sums[base + SUM_Y] += sumY;
+         sums[base + SUM_XX] += sumXX;
+         sums[base + SUM_YY] += sumYY;
+         sums[base + SUM_XY] += sumXY;
+      }
+   }
+
+   /**
+    * accumulateSsim - Sums the SSIM of the Windows with Top Rows [startT, endT) into
+    *                  the SSIM Sums of each Channel
+    *
+    * @param src1   - Pixels of the First Image
+    * @param src2   - Pixels of the Second Image
+    * @param width  - Width of the Images
+    * @param window - Side of the Windows
+    * @param startT - Top Row of the first Windows
+    * @param endT   - Row after the Top Row of the last Windows
+    * @param ssims  - SSIM Sums of each Channel
+    */
+   private static void accumulateSsim(final int[] src1, final int[] src2, final int width, final int window,
+                                      final int startT, final int endT, final double[] ssims)
+   {
+      if(startT >= endT)
+      {
+         return;
+      }
+
+      final double n = window * window;
+
+      // Sums of each Channel and Accumulator over the Window Rows of each Column
+      // (49 * 255^2 still fits an int)
+      final int[] columns = new int[CHANNELS * SUMS * width];
+      for(int y = startT; y < (startT + window); ++y)
+      {
+         addRow(src1, src2, y * width, width, columns, 1);
+      }
+
+      for(int t = startT; t < endT; ++t)
+      {
+         for(int c = 0; c < CHANNELS; ++c)
+         {
+            final int base = c * SUMS * width;
+
+            // Initialize the Window Sums of the first Window
+            int sumX = 0;
+            int sumY = 0;
+            int sumXX = 0;
+            int sumYY = 0;
+            int sumXY = 0;
+            for(int x = 0; x < window; ++x)
+            {
+               sumX += columns[base + (SUM_X * width) + x];
+               sumY += columns[base + (SUM_Y * width) + x];
+               sumXX += columns[base + (SUM_XX * width) + x];
+               sumYY += columns[base + (SUM_YY * width) + x];
+               sumXY += columns[base + (SUM_XY * width) + x];
+            }
+
+            // Slide the Window along the Row
+            double total = 0;
+            for(int x = 0; x <= (width - window); ++x)
+            {
+               total += getSsim(n, sumX, sumY, sumXX, sumYY, sumXY);
+
+               if((x + window) < width)
+               {
+                  final int in = x + window;
+                  sumX += columns[base + (SUM_X * width) + in] - columns[base + (SUM_X * width) + x];
+                  sumY += columns[base + (SUM_Y * width) + in] - columns[base + (SUM_Y * width) + x];
+                  sumXX += columns[base + (SUM_XX * width) + in] - columns[base + (SUM_XX * width) + x];
+                  sumYY += columns[base + (SUM_YY * width) + in] - columns[base + (SUM_YY * width) + x];
+                  sumXY += columns[base + (SUM_XY * width) + in] - columns[base + (SUM_XY * width) + x];
+               }
+            }
+            ssims[c] += total;
+         }
+
+         // Slide the Window Rows down
+         if((t + 1) < endT)
+         {
+            addRow(src1, src2, (t + window) * width, width, columns, 1);
+            addRow(src1, src2, t * width, width, columns, -1);
+         }
+      }
+   }
+
+   /**
+    * addRow - Adds x, y, x^2, y^2 and xy of a Row of each Channel to the Column Sums
+    *
+    * @param src1    - Pixels of the First Image
+    * @param src2    - Pixels of the Second Image
+    * @param row     - Offset of the Row
+    * @param width   - Width of the Images
+    * @param columns - Column Sums of each Channel and Accumulator
+    * @param sign    - 1 to add the Row, -1 to remove it
+    */
+   private static void addRow(final int[] src1, final int[] src2, final int row, final int width,
+                              final int[] columns, final int sign)
+   {
+      for(int c = 0; c < CHANNELS; ++c)
+      {
+         final int shift = 16 - (8 * c);
+         final int base = c * SUMS * width;
+
+         for(int x = 0; x < width; ++x)
+         {
+            final int vx = (src1[row + x] >> shift) & 0xff;
+            final int vy = (src2[row + x] >> shift) & 0xff;
+
+            columns[base + (SUM_X * width) + x] += sign * vx;
+            columns[base + (SUM_Y * width) + x] += sign * vy;
+            columns[base + (SUM_XX * width) + x] += sign * vx * vx;
+            columns[base + (SUM_YY * width) + x] += sign * vy * vy;
+            columns[base + (SUM_XY * width) + x] += sign * vx * vy;
+         }
+      }
+   }
+
+   /**
+    * getSsim - Gets the Structural Similarity of one Window from its Sums
+    *
+    * @param n       - Number of Pixels in the Window
+    * @param sumX    - Sum of x
+    * @param sumY    - Sum of y
+    * @param sumXX   - Sum of x^2
+    * @param sumYY   - Sum of y^2
+    * @param sumXY   - Sum of xy
+    * @return double - SSIM of the Window
+    */
+   private static double getSsim(final double n, final double sumX, final double sumY,
+                                 final double sumXX, final double sumYY, final double sumXY)
+   {
+      final double meanX = sumX / n;
+      final double meanY = sumY / n;
+      final double varianceX = (sumXX / n) - (meanX * meanX);
+      final double varianceY = (sumYY / n) - (meanY * meanY);
+      final double covariance = (sumXY / n) - (meanX * meanY);
+
+      return (((2 * meanX * meanY) + C1) * ((2 * covariance) + C2))
+           / (((meanX * meanX) + (meanY * meanY) + C1) * (varianceX + varianceY + C2));
+   }
+}
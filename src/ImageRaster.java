@@ -0,0 +1,143 @@
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ImageRaster - Helpers to work on the packed ARGB pixels of images as int arrays,
+ *               and to process images in parallel bands of rows
+ */
+public final class ImageRaster
+{
+   // Number of Rows per Band processed by one Task
+   public static final int BAND_HEIGHT = 16;
+
+   /**
+    * BandTask - Processes a band of image rows
+    */
+   public interface BandTask
+   {
+      /**
+       * run - Processes rows [startY, endY)
+       *
+       * @param startY - First Row of the Band
+       * @param endY   - Row after the last Row of the Band
+       */
+      void run(int startY, int endY);
+   }
+
+   /**
+    * Constructor
+    */
+   private ImageRaster()
+   {
+   }
+
+   /**
+    * createImage - Creates a new ARGB image backed by an int array
+    *
+    * @param width          - The Width of the Image
+    * @param height         - The Height of the Image
+    * @return BufferedImage - The Image
+    */
+   public static BufferedImage createImage(final int width, final int height)
+   {
+      return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+   }
+
+   /**
+    * getData - Gets the backing pixel array of an int packed image
+    *
+    * @param image  - A TYPE_INT_ARGB or TYPE_INT_RGB Image
+    * @return int[] - The backing Pixel Array (row-major)
+    */
+   public static int[] getData(final BufferedImage image)
+   {
+      return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+   }
+
+   /**
+    * getPixels - Gets the RGB pixels of an image, without copying when the
+    *             image is already backed by packed ints
+    *
+    * @param image  - The Image
+    * @return int[] - The Pixels (row-major, only the RGB bits are meaningful)
+    */
+   public static int[] getPixels(final BufferedImage image)
+   {
+      if(isIntPacked(image))
+      {
+         return getData(image);
+      }
+
+      return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+   }
+
+   /**
+    * isIntPacked - Checks if an image is backed by packed RGB ints
+    *
+    * @param image    - The Image
+    * @return boolean - True for TYPE_INT_ARGB and TYPE_INT_RGB images
+    */
+   public static boolean isIntPacked(final BufferedImage image)
+   {
+      return (image.getType() == BufferedImage.TYPE_INT_ARGB) || (image.getType() == BufferedImage.TYPE_INT_RGB);
+   }
+
+   /**
+    * forEachBand - Runs a task over all rows of an image in parallel bands
+    *
+    * @param height - The Height of the Image
+    * @param task   - The Task run for each Band
+    */
+   public static void forEachBand(final int height, final BandTask task)
+   {
+      ForkJoinPool.commonPool().invoke(new BandAction(0, height, task));
+   }
+
+   /**
+    * BandAction - Splits rows into bands until a band is small enough to run
+    */
+   private static final class BandAction extends RecursiveAction
+   {
+      // Default Serial Id
+      private static final long serialVersionUID = 1L;
+
+      // Rows [startY, endY) of the Action
+      private final int _startY;
+      private final int _endY;
+
+      // Task run for each Band
+      private final BandTask _task;
+
+      /**
+       * Constructor
+       *
+       * @param startY - First Row
+       * @param endY   - Row after the last Row
+       * @param task   - Task run for each Band
+       */
+      BandAction(final int startY, final int endY, final BandTask task)
+      {
+         _startY = startY;
+         _endY = endY;
+         _task = task;
+      }
+
+      @Override
+      protected void compute()
+      {
+         // Run small Bands directly
+         if((_endY - _startY) <= BAND_HEIGHT)
+         {
+            _task.run(_startY, _endY);
+            return;
+         }
+
+         // Split on a Band boundary
+         final int bands = (_endY - _startY + BAND_HEIGHT - 1) / BAND_HEIGHT;
+         final int midY = _startY + ((bands / 2) * BAND_HEIGHT);
+         invokeAll(new BandAction(_startY, midY, _task), new BandAction(midY, _endY, _task));
+      }
+   }
+}
@@ -0,0 +1,208 @@
+import java.awt.image.BufferedImage;
+
+/**
+ * ImageScaler - Bilinear resampling of the packed ARGB pixels of an image.
+ *
+ *               The source position of every column and every row is computed once
+ *               into index and fixed point weight tables, so each output pixel is
+ *               three lane-parallel interpolations of four source pixels with no
+ *               floating point math. Pixel centers are aligned, and positions past
+ *               the first or last pixel are clamped to the edge
+ */
+public final class ImageScaler
+{
+   // Fixed Point Precision of the Interpolation Weights
+   private static final int SHIFT = 8;
+   private static final int ONE = 1 << SHIFT;
+
+   /**
+    * Axis - Source Indices and Weights of every Column or Row of the Output
+    */
+   private static final class Axis
+   {
+      // First and second Source Index of each Output Position
+      final int[] _first;
+      final int[] _second;
+
+      // Weight of the second Source Index (0..ONE)
+      final int[] _weight;
+
+      /**
+       * Constructor
+       *
+       * @param sourceSize - Width or Height of the Source
+       * @param scaledSize - Width or Height of the Output
+       */
+      Axis(final int sourceSize, final int scaledSize)
+      {
+         _first = new int[scaledSize];
+         _second = new int[scaledSize];
+         _weight = new int[scaledSize];
+
+         final double ratio = (double) sourceSize / scaledSize;
+
+         for(int i = 0; i < scaledSize; ++i)
+         {
+            // Source Position of the Center of the Output Pixel, clamped to the Edges
+            final double position = Math.max(0.0, Math.min(sourceSize - 1, ((i + 0.5) * ratio) - 0.5));
+            final int index = (int) position;
+
+            _first[i] = index;
+            _second[i] = Math.min(index + 1, sourceSize - 1);
+            _weight[i] = (int) Math.round((position - index) * ONE);
+         }
+      }
+   }
+
+   /**
+    * RowScaler - Produces single Rows of a Scaled Image, for stages that stream
+    *             the Scaled Image row by row instead of keeping all of it
+    */
+   public static final class RowScaler
+   {
+      // Source Columns/Rows of the Output Columns/Rows
+      private final Axis _columns;
+      private final Axis _rows;
+
+      // Width of the Source
+      private final int _width;
+
+      /**
+       * Constructor
+       *
+       * @param width        - Width of the Source
+       * @param height       - Height of the Source
+       * @param scaledWidth  - Width of the Scaled Image
+       * @param scaledHeight - Height of the Scaled Image
+       */
+      public RowScaler(final int width, final int height, final int scaledWidth, final int scaledHeight)
+      {
+         if((scaledWidth < 1) || (scaledHeight < 1))
+         {
+            throw new IllegalArgumentException("Invalid scaled size " + scaledWidth + "x" + scaledHeight);
+         }
+
+         _columns = new Axis(width, scaledWidth);
+         _rows = new Axis(height, scaledHeight);
+         _width = width;
+      }
+
+      /**
+       * scaleRow - Produces one Row of the Scaled Image
+       *
+       * @param src - Source Pixels (row-major)
+       * @param y   - Row of the Scaled Image
+       * @param dst - Pixels to write the Row to
+       * @param row - Offset of the Row in dst
+       */
+      public void scaleRow(final int[] src, final int y, final int[] dst, final int row)
+      {
+         ImageScaler.scaleRow(src, dst, row, _columns, _rows._first[y] * _width, _rows._second[y] * _width, _rows._weight[y]);
+      }
+   }
+
+   /**
+    * Constructor
+    */
+   private ImageScaler()
+   {
+   }
+
+   /**
+    * scale - Resamples an Image to new Dimensions with bilinear interpolation
+    *
+    * @param image          - The Image to Scale
+    * @param scaledWidth    - Width of the Scaled Image
+    * @param scaledHeight   - Height of the Scaled Image
+    * @return BufferedImage - The Scaled Image
+    */
+   public static BufferedImage scale(final BufferedImage image, final int scaledWidth, final int scaledHeight)
+   {
+      if((scaledWidth < 1) || (scaledHeight < 1))
+      {
+         throw new IllegalArgumentException("Invalid scaled size " + scaledWidth + "x" + scaledHeight);
+      }
+
+      final BufferedImage scaledImage = ImageRaster.createImage(scaledWidth, scaledHeight);
+      scale(ImageRaster.getPixels(image), image.getWidth(), image.getHeight(),
+            ImageRaster.getData(scaledImage), scaledWidth, scaledHeight);
+      return scaledImage;
+   }
+
+   /**
+    * scale - Resamples Pixels to new Dimensions with bilinear interpolation
+    *
+    * @param src          - Pixels to Scale (row-major)
+    * @param width        - Width of the Source
+    * @param height       - Height of the Source
+    * @param dst          - Scaled Pixels (row-major)
+    * @param scaledWidth  - Width of the Scaled Pixels
+    * @param scaledHeight - Height of the Scaled Pixels
+    */
+   public static void scale(final int[] src, final int width, final int height,
+                            final int[] dst, final int scaledWidth, final int scaledHeight)
+   {
+      final RowScaler scaler = new RowScaler(width, height, scaledWidth, scaledHeight);
+
+      ImageRaster.forEachBand(scaledHeight, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            for(int y = startY; y < endY; ++y)
+            {
+               scaler.scaleRow(src, y, dst, y * scaledWidth);
+            }
+         }
+      });
+   }
+
+   /**
+    * scaleRow - Interpolates one Row of the Output between two Source Rows
+    *
+    * @param src     - Source Pixels
+    * @param dst     - Scaled Pixels
+    * @param row     - Offset of the Output Row
+    * @param columns - Source Columns of the Output Columns
+    * @param top     - Offset of the first Source Row
+    * @param bottom  - Offset of the second Source Row
+    * @param weight  - Weight of the second Source Row (0..ONE)
+    */
+   private static void scaleRow(final int[] src, final int[] dst, final int row,
+                                final Axis columns, final int top, final int bottom, final int weight)
+   {
+      final int[] first = columns._first;
+      final int[] second = columns._second;
+      final int[] weights = columns._weight;
+
+      for(int x = 0; x < first.length; ++x)
+      {
+         final int upper = lerp(src[top + first[x]], src[top + second[x]], weights[x]);
+         final int lower = lerp(src[bottom + first[x]], src[bottom + second[x]], weights[x]);
+
+         dst[row + x] = PackedPixels.ALPHA | lerp(upper, lower, weight);
+      }
+   }
+
+   /**
+    * lerp - Interpolates the RGB channels of two pixels, red and blue in one
+    *        lane pair and green in its own lane
+    *
+    * @param a      - First Pixel
+    * @param b      - Second Pixel
+    * @param weight - Weight of the second Pixel (0..ONE)
+    * @return int   - The Interpolated RGB Channels (alpha 0)
+    */
+   static int lerp(final int a, final int b, final int weight)
+   {
+      final int inverse = ONE - weight;
+
+      // Each 16 bit Lane holds at most 255 * ONE plus the rounding Bias
+      final int redBlue = ((((a & PackedPixels.RB_MASK) * inverse) + ((b & PackedPixels.RB_MASK) * weight) + 0x00800080) >>> SHIFT)
+                        & PackedPixels.RB_MASK;
+      final int green = ((((a & PackedPixels.G_MASK) * inverse) + ((b & PackedPixels.G_MASK) * weight) + 0x00008000) >>> SHIFT)
+                      & PackedPixels.G_MASK;
+
+      return redBlue | green;
+   }
+}
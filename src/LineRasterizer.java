@@ -0,0 +1,289 @@
+/**
+ * LineRasterizer - Rasterizes lines directly into the ARGB pixel array of an image.
+ *                  Lines are clipped to the image bounds before they are drawn, using
+ *                  Bresenham for aliased lines and Xiaolin Wu for anti-aliased lines
+ */
+public final class LineRasterizer
+{
+   // Pixel Array of the Image
+   private final int[] _pixels;
+
+   // Width/Height of the Image
+   private final int _width;
+   private final int _height;
+
+   // Clipped Line Endpoints (x0, y0, x1, y1)
+   private final double[] _clip = new double[4];
+
+   // Parametric Range of the Clipped Line
+   private double _tStart;
+   private double _tEnd;
+
+   /**
+    * Constructor
+    *
+    * @param pixels - The ARGB Pixel Array of the Image
+    * @param width  - The Width of the Image
+    * @param height - The Height of the Image
+    */
+   public LineRasterizer(final int[] pixels, final int width, final int height)
+   {
+      _pixels = pixels;
+      _width = width;
+      _height = height;
+   }
+
+   /**
+    * drawLine - Draws an aliased line from (x0, y0) to (x1, y1) using Bresenham
+    *
+    * @param x0
+    * @param y0
+    * @param x1
+    * @param y1
+    * @param color - The ARGB Color of the Line
+    */
+   public void drawLine(final double x0, final double y0, final double x1, final double y1, final int color)
+   {
+      // Check if any part of the Line is within the Image
+      if(!clip(x0, y0, x1, y1))
+      {
+         return;
+      }
+
+      // Get Integer Endpoints of the Clipped Line
+      int x = (int)Math.round(_clip[0]);
+      int y = (int)Math.round(_clip[1]);
+      final int endX = (int)Math.round(_clip[2]);
+      final int endY = (int)Math.round(_clip[3]);
+
+      // Initialize Bresenham Deltas and Steps
+      final int dx = Math.abs(endX - x);
+      final int dy = -Math.abs(endY - y);
+      final int stepX = (x < endX) ? 1 : -1;
+      final int stepY = (y < endY) ? 1 : -1;
+      int err = dx + dy;
+
+      while(true)
+      {
+         _pixels[(y * _width) + x] = color;
+
+         // Check if End of Line is reached
+         if((x == endX) && (y == endY))
+         {
+            break;
+         }
+
+         // Step along the X and/or Y Axis
+         final int e2 = 2 * err;
+         if(e2 >= dy)
+         {
+            err += dy;
+            x += stepX;
+         }
+         if(e2 <= dx)
+         {
+            err += dx;
+            y += stepY;
+         }
+      }
+   }
+
+   /**
+    * drawLineAntiAliased - Draws an anti-aliased line from (x0, y0) to (x1, y1)
+    *                       using Xiaolin Wu's algorithm
+    *
+    * @param x0
+    * @param y0
+    * @param x1
+    * @param y1
+    * @param color - The ARGB Color of the Line
+    */
+   public void drawLineAntiAliased(final double x0, final double y0, final double x1, final double y1, final int color)
+   {
+      // Check if any part of the Line is within the Image
+      if(!clip(x0, y0, x1, y1))
+      {
+         return;
+      }
+
+      double ax = _clip[0];
+      double ay = _clip[1];
+      double bx = _clip[2];
+      double by = _clip[3];
+
+      // Walk along the Major Axis
+      final boolean isSteep = Math.abs(by - ay) > Math.abs(bx - ax);
+      if(isSteep)
+      {
+         double t = ax; ax = ay; ay = t;
+         t = bx; bx = by; by = t;
+      }
+      if(ax > bx)
+      {
+         double t = ax; ax = bx; bx = t;
+         t = ay; ay = by; by = t;
+      }
+
+      // Get Gradient of the Line
+      final double dx = bx - ax;
+      final double gradient = (dx == 0.0) ? 1.0 : (by - ay)/dx;
+
+      // First Endpoint
+      final int xStart = (int)Math.round(ax);
+      final double yStart = ay + gradient*(xStart - ax);
+      final double xGapStart = 1.0 - fpart(ax + 0.5);
+      plotPair(xStart, yStart, xGapStart, isSteep, color);
+
+      // Second Endpoint
+      final int xEnd = (int)Math.round(bx);
+      final double yEnd = by + gradient*(xEnd - bx);
+      final double xGapEnd = fpart(bx + 0.5);
+      plotPair(xEnd, yEnd, xGapEnd, isSteep, color);
+
+      // Iterate over the Interior of the Line
+      double intery = yStart + gradient;
+      for(int x = xStart + 1; x < xEnd; ++x)
+      {
+         plotPair(x, intery, 1.0, isSteep, color);
+         intery += gradient;
+      }
+   }
+
+   /**
+    * plotPair - Plots the two pixels straddling the line at a major axis position
+    *
+    * @param major   - Position along the Major Axis
+    * @param minor   - Exact Position along the Minor Axis
+    * @param gap     - Coverage along the Major Axis
+    * @param isSteep - Indicator if the Major Axis is Y
+    * @param color   - The ARGB Color of the Line
+    */
+   private void plotPair(final int major, final double minor, final double gap, final boolean isSteep, final int color)
+   {
+      final int base = (int)Math.floor(minor);
+      final double frac = minor - base;
+
+      if(isSteep)
+      {
+         blend(base, major, (1.0 - frac) * gap, color);
+         blend(base + 1, major, frac * gap, color);
+      }
+      else
+      {
+         blend(major, base, (1.0 - frac) * gap, color);
+         blend(major, base + 1, frac * gap, color);
+      }
+   }
+
+   /**
+    * blend - Blends a Color onto a Pixel by the given Coverage
+    *
+    * @param x
+    * @param y
+    * @param coverage - Coverage of the Pixel (0 to 1)
+    * @param color    - The ARGB Color of the Line
+    */
+   private void blend(final int x, final int y, final double coverage, final int color)
+   {
+      // Ignore Pixels outside of the Image
+      if((x < 0) || (y < 0) || (x >= _width) || (y >= _height) || (coverage <= 0.0))
+      {
+         return;
+      }
+
+      final int index = (y * _width) + x;
+      final int pix = _pixels[index];
+      final int a = (int)Math.round(coverage * 256);
+
+      // Interpolate each channel from the Pixel towards the Line Color
+      final int red   = blendChannel((pix >> 16) & 0xff, (color >> 16) & 0xff, a);
+      final int green = blendChannel((pix >> 8) & 0xff, (color >> 8) & 0xff, a);
+      final int blue  = blendChannel(pix & 0xff, color & 0xff, a);
+
+      _pixels[index] = 0xff000000 | (red << 16) | (green << 8) | blue;
+   }
+
+   /**
+    * blendChannel - Interpolates between two channel values
+    *
+    * @param from - The Existing Channel Value
+    * @param to   - The Line Channel Value
+    * @param a    - Weight of the Line Channel (0 to 256)
+    * @return int - The Blended Channel Value
+    */
+   private static int blendChannel(final int from, final int to, final int a)
+   {
+      return from + (((to - from) * a) >> 8);
+   }
+
+   /**
+    * fpart - Gets the Fractional Part of a value
+    *
+    * @param v
+    * @return double
+    */
+   private static double fpart(final double v)
+   {
+      return v - Math.floor(v);
+   }
+
+   /**
+    * clip - Clips a line to the Image bounds (Liang-Barsky), storing the
+    *        clipped endpoints in _clip
+    *
+    * @param x0
+    * @param y0
+    * @param x1
+    * @param y1
+    * @return boolean - True if part of the line lies within the Image
+    */
+   private boolean clip(final double x0, final double y0, final double x1, final double y1)
+   {
+      final double dx = x1 - x0;
+      final double dy = y1 - y0;
+
+      // Parametric range of the visible line
+      _tStart = 0.0;
+      _tEnd = 1.0;
+
+      if(!clipEdge(-dx, x0) || !clipEdge(dx, (_width - 1) - x0)
+         || !clipEdge(-dy, y0) || !clipEdge(dy, (_height - 1) - y0))
+      {
+         return false;
+      }
+
+      _clip[0] = x0 + (_tStart * dx);
+      _clip[1] = y0 + (_tStart * dy);
+      _clip[2] = x0 + (_tEnd * dx);
+      _clip[3] = y0 + (_tEnd * dy);
+
+      return true;
+   }
+
+   /**
+    * clipEdge - Narrows the parametric range of the clipped line against one edge
+    *
+    * @param p        - Direction of the line relative to the edge
+    * @param q        - Distance of the line start to the edge
+    * @return boolean - False if the line is entirely outside the edge
+    */
+   private boolean clipEdge(final double p, final double q)
+   {
+      if(p == 0.0)
+      {
+         return q >= 0.0;
+      }
+
+      final double t = q/p;
+      if(p < 0.0)
+      {
+         _tStart = Math.max(_tStart, t);
+      }
+      else
+      {
+         _tEnd = Math.min(_tEnd, t);
+      }
+
+      return _tStart <= _tEnd;
+   }
+}
@@ -0,0 +1,168 @@
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * MipChain - Box filtered copies of an image at half, quarter, ... of its size,
+ *            used to downscale by large factors without aliasing.
+ *
+ *            Each level averages 2x2 blocks of the level above it, so a level holds
+ *            every pixel of the source instead of a sample of it, and all levels
+ *            together are about a third of the source. Downscaling picks the
+ *            smallest level that is still at least as large as the output and
+ *            resamples it bilinearly, which is then a reduction of less than 2.
+ *            Levels are built on first use and shared per source image, which must
+ *            not be modified afterwards
+ */
+public final class MipChain
+{
+   // Shared Chains by Source Image (released with the Image)
+   private static final Map<BufferedImage, MipChain> CHAINS = new WeakHashMap<BufferedImage, MipChain>();
+
+   // Widths, Heights and Pixels of the Levels (level 0 is the Source)
+   private final List<Integer> _widths = new ArrayList<Integer>();
+   private final List<Integer> _heights = new ArrayList<Integer>();
+   private final List<int[]> _levels = new ArrayList<int[]>();
+
+   /**
+    * Constructor
+    *
+    * @param image - The Source Image
+    */
+   private MipChain(final BufferedImage image)
+   {
+      _widths.add(image.getWidth());
+      _heights.add(image.getHeight());
+      _levels.add(ImageRaster.getPixels(image));
+   }
+
+   /**
+    * get - Gets the shared Mip Chain of an Image
+    *
+    * @param image     - The Source Image
+    * @return MipChain - The Mip Chain
+    */
+   public static MipChain get(final BufferedImage image)
+   {
+      synchronized(CHAINS)
+      {
+         MipChain chain = CHAINS.get(image);
+         if(chain == null)
+         {
+            chain = new MipChain(image);
+            CHAINS.put(image, chain);
+         }
+         return chain;
+      }
+   }
+
+   /**
+    * scale - Downscales the Source to new Dimensions from the nearest Level
+    *
+    * @param scaledWidth    - Width of the Scaled Image
+    * @param scaledHeight   - Height of the Scaled Image
+    * @return BufferedImage - The Scaled Image
+    */
+   public BufferedImage scale(final int scaledWidth, final int scaledHeight)
+   {
+      if((scaledWidth < 1) || (scaledHeight < 1))
+      {
+         throw new IllegalArgumentException("Invalid scaled size " + scaledWidth + "x" + scaledHeight);
+      }
+
+      final BufferedImage scaledImage = ImageRaster.createImage(scaledWidth, scaledHeight);
+      final int[] dst = ImageRaster.getData(scaledImage);
+
+      synchronized(this)
+      {
+         // Halve while the next Level still covers the Output
+         int level = 0;
+         while((((_widths.get(level) + 1) / 2) >= scaledWidth) && (((_heights.get(level) + 1) / 2) >= scaledHeight)
+               && ((_widths.get(level) > 1) || (_heights.get(level) > 1)))
+         {
+            ++level;
+            if(level == _levels.size())
+            {
+               addLevel();
+            }
+         }
+
+         ImageScaler.scale(_levels.get(level), _widths.get(level), _heights.get(level), dst, scaledWidth, scaledHeight);
+      }
+
+      return scaledImage;
+   }
+
+   /**
+    * getLevels - Gets the Number of Levels built so far (including the Source)
+    *
+    * @return int
+    */
+   public synchronized int getLevels()
+   {
+      return _levels.size();
+   }
+
+   /**
+    * addLevel - Builds the next Level by averaging 2x2 blocks of the last Level. Odd
+    *            Widths/Heights round up, averaging the last Column/Row with itself
+    */
+   private void addLevel()
+   {
+      final int last = _levels.size() - 1;
+      final int[] src = _levels.get(last);
+      final int width = _widths.get(last);
+      final int height = _heights.get(last);
+
+      final int halfWidth = (width + 1) / 2;
+      final int halfHeight = (height + 1) / 2;
+      final int[] dst = new int[halfWidth * halfHeight];
+
+      ImageRaster.forEachBand(halfHeight, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            for(int y = startY; y < endY; ++y)
+            {
+               final int top = (2 * y) * width;
+               final int bottom = Math.min((2 * y) + 1, height - 1) * width;
+
+               for(int x = 0; x < halfWidth; ++x)
+               {
+                  final int left = 2 * x;
+                  final int right = Math.min(left + 1, width - 1);
+
+                  dst[(y * halfWidth) + x] = average(src[top + left], src[top + right], src[bottom + left], src[bottom + right]);
+               }
+            }
+         }
+      });
+
+      _widths.add(halfWidth);
+      _heights.add(halfHeight);
+      _levels.add(dst);
+   }
+
+   /**
+    * average - Averages the RGB channels of four pixels, red and blue in one lane
+    *           pair and green in its own lane
+    *
+    * @param a    - First Pixel
+    * @param b    - Second Pixel
+    * @param c    - Third Pixel
+    * @param d    - Fourth Pixel
+    * @return int - The opaque Average Pixel
+    */
+   private static int average(final int a, final int b, final int c, final int d)
+   {
+      final int redBlue = (a & PackedPixels.RB_MASK) + (b & PackedPixels.RB_MASK)
+                        + (c & PackedPixels.RB_MASK) + (d & PackedPixels.RB_MASK) + 0x00020002;
+      final int green = (a & PackedPixels.G_MASK) + (b & PackedPixels.G_MASK)
+                      + (c & PackedPixels.G_MASK) + (d & PackedPixels.G_MASK) + 0x00000200;
+
+      return PackedPixels.ALPHA | ((redBlue >>> 2) & PackedPixels.RB_MASK) | ((green >>> 2) & PackedPixels.G_MASK);
+   }
+}
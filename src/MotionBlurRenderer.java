@@ -0,0 +1,171 @@
+/**
+ * MotionBlurRenderer - Renders the spokes of a Radial Image motion blurred over the
+ *                      shutter interval of a frame, in closed form.
+ *
+ *                      Seen from the center, a spoke of width 1 covers the angles
+ *                      within 0.5/r radians of its direction at radius r, so every
+ *                      pixel is covered while the rotation lies in one window of that
+ *                      width per spoke period. The fraction of the shutter a pixel is
+ *                      covered is the measure of those windows inside the interval the
+ *                      rotation sweeps, which has a closed form, so the cost per frame
+ *                      is one pass over the pixels for any rotation speed or frame rate.
+ *
+ *                      The angle and covered width of every pixel come from the shared
+ *                      PolarMap, so a frame is a linear scan over those arrays, and the
+ *                      number of spokes does not change its cost. A sweep of 0 renders
+ *                      sharp spokes with integer math only
+ */
+public final class MotionBlurRenderer
+{
+   // Background and Spoke Pixel Colors
+   private static final int WHITE = 0xffffffff;
+   private static final int BLACK = 0xff000000;
+
+   /**
+    * Constructor
+    */
+   private MotionBlurRenderer()
+   {
+   }
+
+   /**
+    * render - Renders black spokes on white, each pixel shaded by the fraction of the
+    *          shutter it is covered by a spoke while the first spoke rotates from
+    *          phase - sweep to phase
+    *
+    * @param pixels - Pixels of the Image (row-major, output)
+    * @param width  - Width of the Image
+    * @param height - Height of the Image
+    * @param spokes - Number of Spokes
+    * @param phase  - Rotation of the first Spoke at the end of the Shutter (Degrees)
+    * @param sweep  - Rotation during the Shutter (Degrees, >= 0)
+    */
+   public static void render(final int[] pixels, final int width, final int height, final int spokes,
+                             final double phase, final double sweep)
+   {
+      if(!(sweep >= 0))
+      {
+         throw new IllegalArgumentException("Invalid shutter sweep " + sweep);
+      }
+
+      // Degrees between two neighboring Spokes
+      final double period = 360.0/spokes;
+
+      // Polar Coordinates of the Pixels
+      final PolarMap map = PolarMap.get(width, height);
+      final int[] angles = map.getAngles();
+      final int[] halfAngles = map.getHalfAngles();
+
+      ImageRaster.forEachBand(height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            if(sweep == 0)
+            {
+               scanSharp(pixels, angles, halfAngles, spokes, phase, startY * width, endY * width);
+            }
+            else
+            {
+               scanBlurred(pixels, angles, halfAngles, phase, sweep, period, startY * width, endY * width);
+            }
+         }
+      });
+   }
+
+   /**
+    * scanSharp - Renders Pixels [start, end) covered by a spoke at a single phase
+    *
+    * @param pixels     - Pixels of the Image (output)
+    * @param angles     - Angle of each Pixel from pointing up (Binary Angle)
+    * @param halfAngles - Half of the Angle a Spoke covers at each Pixel (Binary Angle)
+    * @param spokes     - Number of Spokes
+    * @param phase      - Rotation of the first Spoke (Degrees)
+    * @param start      - First Pixel
+    * @param end        - Pixel after the last Pixel
+    */
+   private static void scanSharp(final int[] pixels, final int[] angles, final int[] halfAngles,
+                                 final int spokes, final double phase, final int start, final int end)
+   {
+      final int rotation = PolarMap.toBinaryAngle(phase);
+
+      for(int p = start; p < end; ++p)
+      {
+         // Angle of the Pixel from the nearest Spoke, scaled so the Spacing is one Turn
+         final int offset = (angles[p] - rotation) * spokes;
+
+         pixels[p] = (Math.abs((long) offset) < ((long) halfAngles[p] * spokes)) ? BLACK : WHITE;
+      }
+   }
+
+   /**
+    * scanBlurred - Renders Pixels [start, end) shaded by their coverage over the Shutter
+    *
+    * @param pixels     - Pixels of the Image (output)
+    * @param angles     - Angle of each Pixel from pointing up (Binary Angle)
+    * @param halfAngles - Half of the Angle a Spoke covers at each Pixel (Binary Angle)
+    * @param phase      - Rotation of the first Spoke at the end of the Shutter (Degrees)
+    * @param sweep      - Rotation during the Shutter (Degrees, > 0)
+    * @param period     - Degrees between two neighboring Spokes
+    * @param start      - First Pixel
+    * @param end        - Pixel after the last Pixel
+    */
+   private static void scanBlurred(final int[] pixels, final int[] angles, final int[] halfAngles, final double phase,
+                                   final double sweep, final double period, final int start, final int end)
+   {
+      for(int p = start; p < end; ++p)
+      {
+         // Angle of the Pixel relative to the first Spoke at the end of the Shutter
+         final double angle = PolarMap.toDegrees(angles[p]) - phase;
+         final double halfAngle = halfAngles[p] / PolarMap.UNITS_PER_DEGREE;
+
+         final double coverage = getCoverage(angle, sweep, halfAngle, period);
+         final int value = 255 - (int) ((coverage * 255.0) + 0.5);
+
+         pixels[p] = PackedPixels.ALPHA | (value * 0x010101);
+      }
+   }
+
+   /**
+    * getCoverage - Gets the fraction of [angle, angle + sweep] that is within halfAngle
+    *               of a multiple of the period
+    *
+    * @param angle     - Start of the Interval (Degrees)
+    * @param sweep     - Length of the Interval (Degrees, 0 to test a single angle)
+    * @param halfAngle - Half Width of the Window around each Multiple of the Period
+    * @param period    - The Period (Degrees)
+    * @return double   - Covered Fraction (0..1)
+    */
+   public static double getCoverage(final double angle, final double sweep, final double halfAngle, final double period)
+   {
+      // Windows overlap near the Center
+      final double half = Math.min(halfAngle, period / 2);
+
+      // Single Angle (no Motion)
+      if(sweep == 0)
+      {
+         final double offset = angle - (Math.floor(angle / period) * period);
+         return ((offset < half) || (offset > (period - half))) ? 1.0 : 0.0;
+      }
+
+      return (getCovered(angle + sweep, half, period) - getCovered(angle, half, period)) / sweep;
+   }
+
+   /**
+    * getCovered - Gets the measure of the Windows within half of a multiple of the
+    *              period between 0 and x (negative for x < 0)
+    *
+    * @param x       - End of the Interval (Degrees)
+    * @param half    - Half Width of each Window (<= period/2)
+    * @param period  - The Period (Degrees)
+    * @return double - The covered Measure
+    */
+   private static double getCovered(final double x, final double half, final double period)
+   {
+      final double periods = Math.floor(x / period);
+      final double offset = x - (periods * period);
+
+      // Each whole Period holds one Window, split over its Start and End
+      return (periods * 2 * half) + Math.min(offset, half) + Math.max(0, offset - (period - half));
+   }
+}
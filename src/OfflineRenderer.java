@@ -0,0 +1,367 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.imageio.ImageIO;
+
+/**
+ * OfflineRenderer - Renders frame streams headless as fast as the CPU allows and
+ *                   writes every frame to disk, without a window or a timer.
+ *
+ *                   Each stream renders its frames in order on its own thread, and
+ *                   the finished frames are encoded and written by a pool of
+ *                   encoder threads. At most a fixed number of frames wait for an
+ *                   encoder, and a stream blocks while that many are waiting, so
+ *                   memory stays bounded when encoding is slower than rendering.
+ *                   Each stream renders into a fixed pool of images, and every image
+ *                   returns to the pool once its frame is written
+ */
+public final class OfflineRenderer
+{
+   // Output Formats
+   public static final int FORMAT_RAW = 0;
+   public static final int FORMAT_PNG = 1;
+   public static final int FORMAT_CONTAINER = 2;
+
+   // Default Number of Frames waiting for an Encoder
+   public static final int DEFAULT_CAPACITY = 16;
+
+   /**
+    * Stream - A named Frame Stream and its Renderer
+    */
+   private static final class Stream
+   {
+      // Name of the Stream (prefix of its Files)
+      private final String _name;
+
+      // Frames per Second
+      private final double _fps;
+
+      // Renderer of the Frames
+      private final FramePipeline.Renderer _renderer;
+
+      // Images free to render a Frame into
+      private final BlockingQueue<BufferedImage> _free;
+
+      // Container of the Frames (FORMAT_CONTAINER, created with the first Frame)
+      private FrameContainer _container;
+
+      /**
+       * Constructor
+       *
+       * @param name     - Name of the Stream
+       * @param fps      - Frames per Second
+       * @param width    - Width of the Frames
+       * @param height   - Height of the Frames
+       * @param images   - Number of Images to render into
+       * @param renderer - Renderer of the Frames
+       */
+      Stream(final String name, final double fps, final int width, final int height, final int images,
+             final FramePipeline.Renderer renderer)
+      {
+         _name = name;
+         _fps = fps;
+         _renderer = renderer;
+
+         _free = new ArrayBlockingQueue<BufferedImage>(images);
+         for(int i = 0; i < images; ++i)
+         {
+            _free.add(ImageRaster.createImage(width, height));
+         }
+      }
+   }
+
+   // Directory of the Frame Files
+   private final File _directory;
+
+   // Output Format
+   private final int _format;
+
+   // Number of Encoder Threads
+   private final int _encoders;
+
+   // Frames waiting for or being encoded
+   private final Semaphore _slots;
+
+   // Number of Frames waiting for an Encoder before the Streams block
+   private final int _capacity;
+
+   // Streams to render
+   private final List<Stream> _streams = new ArrayList<Stream>();
+
+   /**
+    * Constructor
+    *
+    * @param directory - Directory of the Frame Files (created if missing)
+    * @param format    - FORMAT_RAW, FORMAT_PNG or FORMAT_CONTAINER
+    * @param encoders  - Number of Encoder Threads
+    * @param capacity  - Number of Frames waiting for an Encoder before the Streams block
+    */
+   public OfflineRenderer(final File directory, final int format, final int encoders, final int capacity)
+   {
+      if((format != FORMAT_RAW) && (format != FORMAT_PNG) && (format != FORMAT_CONTAINER))
+      {
+         throw new IllegalArgumentException("Invalid frame format " + format);
+      }
+      if((encoders < 1) || (capacity < 1))
+      {
+         throw new IllegalArgumentException("Invalid encoder count " + encoders + " or capacity " + capacity);
+      }
+
+      _directory = directory;
+      _format = format;
+      _encoders = encoders;
+      _slots = new Semaphore(capacity);
+      _capacity = capacity;
+   }
+
+   /**
+    * addStream - Adds a Frame Stream, written to files named name-index, or to
+    *             the Container name.frames
+    *
+    * @param name     - Name of the Stream
+    * @param fps      - Frames per Second
+    * @param width    - Width of the Frames
+    * @param height   - Height of the Frames
+    * @param renderer - Renderer of the Frames (called in order from one Thread)
+    */
+   public void addStream(final String name, final double fps, final int width, final int height,
+                         final FramePipeline.Renderer renderer)
+   {
+      // One Image per waiting Frame, plus the Frame being rendered
+      _streams.add(new Stream(name, fps, width, height, _capacity + 1, renderer));
+   }
+
+   /**
+    * render - Renders and writes the first Frames of every Stream
+    *
+    * @param frames - Number of Frames per Stream
+    * @throws IOException
+    * @throws InterruptedException
+    */
+   public void render(final long frames) throws IOException, InterruptedException
+   {
+      if(!_directory.isDirectory() && !_directory.mkdirs())
+      {
+         throw new IOException("Cannot create " + _directory);
+      }
+
+      final ExecutorService encoders = Executors.newFixedThreadPool(_encoders);
+      final AtomicReference<Exception> failure = new AtomicReference<Exception>();
+
+      // Render every Stream on its own Thread
+      final List<Thread> producers = new ArrayList<Thread>();
+      for(final Stream stream : _streams)
+      {
+         final Thread producer = new Thread(new Runnable()
+         {
+            @Override
+            public void run()
+            {
+               try
+               {
+                  for(long index = 0; (index < frames) && (failure.get() == null)
+                                      && !Thread.currentThread().isInterrupted(); ++index)
+                  {
+                     final BufferedImage frame = stream._free.take();
+                     stream._renderer.render(index, frame);
+                     final File file = getFile(stream, index, frame);
+                     final long frameIndex = index;
+
+                     // Wait for a free Slot, then hand the Frame to an Encoder
+                     _slots.acquire();
+                     encoders.execute(new Runnable()
+                     {
+                        @Override
+                        public void run()
+                        {
+                           try
+                           {
+                              if(stream._container != null)
+                              {
+                                 stream._container.write(frameIndex, frame);
+                              }
+                              else
+                              {
+                                 write(frame, file);
+                              }
+                           }
+                           catch(Exception e)
+                           {
+                              failure.compareAndSet(null, e);
+                           }
+                           finally
+                           {
+                              stream._free.add(frame);
+                              _slots.release();
+                           }
+                        }
+                     });
+                  }
+               }
+               catch(Exception e)
+               {
+                  failure.compareAndSet(null, e);
+               }
+            }
+         }, "OfflineRenderer-" + stream._name);
+
+         producers.add(producer);
+         producer.start();
+      }
+
+      try
+      {
+         for(Thread producer : producers)
+         {
+            producer.join();
+         }
+      }
+      finally
+      {
+         // Stop the Streams still rendering (when interrupted), so none hands a
+         // Frame to the Encoders after they are shut down
+         boolean isInterrupted = false;
+         for(Thread producer : producers)
+         {
+            if(producer.isAlive())
+            {
+               producer.interrupt();
+            }
+         }
+         for(Thread producer : producers)
+         {
+            while(producer.isAlive())
+            {
+               try
+               {
+                  producer.join();
+               }
+               catch(InterruptedException e)
+               {
+                  isInterrupted = true;
+               }
+            }
+         }
+
+         // Finish the Frames already handed to the Encoders
+         encoders.shutdown();
+         while(!encoders.isTerminated())
+         {
+            try
+            {
+               encoders.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+            catch(InterruptedException e)
+            {
+               isInterrupted = true;
+            }
+         }
+
+         for(Stream stream : _streams)
+         {
+            if(stream._container != null)
+            {
+               stream._container.close();
+               stream._container = null;
+            }
+         }
+
+         // Keep the Interrupt for the Caller
+         if(isInterrupted)
+         {
+            Thread.currentThread().interrupt();
+         }
+      }
+
+      final Exception e = failure.get();
+      if(e instanceof IOException)
+      {
+         throw (IOException) e;
+      }
+      else if(e instanceof InterruptedException)
+      {
+         throw (InterruptedException) e;
+      }
+      else if(e != null)
+      {
+         throw new IllegalStateException("Rendering frames failed", e);
+      }
+   }
+
+   /**
+    * getFile - Gets the File of a Frame, creating the Container of the Stream
+    *           with its first Frame
+    *
+    * @param stream - The Stream
+    * @param index  - Index of the Frame
+    * @param frame  - The Frame
+    * @return File  - File of the Frame (null when written to the Container)
+    * @throws IOException
+    */
+   private File getFile(final Stream stream, final long index, final BufferedImage frame) throws IOException
+   {
+      if(_format == FORMAT_CONTAINER)
+      {
+         if(stream._container == null)
+         {
+            stream._container = FrameContainer.create(new File(_directory, stream._name + ".frames"),
+                                                      frame.getWidth(), frame.getHeight(), stream._fps);
+         }
+         return null;
+      }
+      else if(_format == FORMAT_PNG)
+      {
+         return new File(_directory, String.format("%s-%06d.png", stream._name, index));
+      }
+
+      // Raw Files carry no Header, so their Names hold the Dimensions
+      return new File(_directory, String.format("%s-%dx%d-%06d.raw", stream._name, frame.getWidth(), frame.getHeight(), index));
+   }
+
+   /**
+    * write - Encodes and writes a Frame
+    *
+    * @param frame - The Frame
+    * @param file  - The File
+    * @throws IOException
+    */
+   private void write(final BufferedImage frame, final File file) throws IOException
+   {
+      if(_format == FORMAT_PNG)
+      {
+         if(!ImageIO.write(frame, "png", file))
+         {
+            throw new IOException("No PNG writer for " + file);
+         }
+         return;
+      }
+
+      // Raw Frames are the ARGB Pixels, row-major and big-endian
+      final int[] pixels = ImageRaster.getPixels(frame);
+      final ByteBuffer buffer = ByteBuffer.allocate(4 * pixels.length).order(ByteOrder.BIG_ENDIAN);
+      buffer.asIntBuffer().put(pixels);
+
+      try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                                                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+      {
+         while(buffer.hasRemaining())
+         {
+            channel.write(buffer);
+         }
+      }
+   }
+}
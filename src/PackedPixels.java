@@ -0,0 +1,111 @@
+/**
+ * PackedPixels - Channel arithmetic on packed ARGB pixels that works on several
+ *                channels at once inside one int (SIMD within a register).
+ *
+ *                Red and blue are 16 bits apart, so masking a pixel with RB_MASK
+ *                gives two independent 16 bit lanes that can be summed for up to
+ *                257 pixels before a lane overflows. Green is handled in its own lane
+ */
+public final class PackedPixels
+{
+   // Opaque Alpha
+   public static final int ALPHA = 0xff000000;
+
+   // Lane Masks
+   public static final int RB_MASK = 0x00ff00ff;
+   public static final int G_MASK = 0x0000ff00;
+   public static final int RGB_MASK = 0x00ffffff;
+
+   // Highest Bit of each RGB Channel
+   private static final int HIGH_BITS = 0x00808080;
+
+   // Lowest Bit of each RGB Channel
+   private static final int LOW_BITS = 0x00010101;
+
+   // Low 7 Bits of each RGB Channel
+   private static final int LOW_7_BITS = 0x007f7f7f;
+
+   // Mask of one 16 bit Lane
+   private static final int LANE_MASK = 0xffff;
+
+   /**
+    * Constructor
+    */
+   private PackedPixels()
+   {
+   }
+
+   /**
+    * isBelow - Checks if every RGB channel of a pixel is below a threshold
+    *
+    * @param pix       - The Pixel
+    * @param threshold - The Threshold (a power of two, 1 to 256)
+    * @return boolean  - True if red, green and blue are all < threshold
+    */
+   public static boolean isBelow(final int pix, final int threshold)
+   {
+      // Bits of each Channel that are set only for values >= threshold
+      final int bits = ((0x100 - threshold) & 0xff) * LOW_BITS;
+      return (pix & bits) == 0;
+   }
+
+   /**
+    * hasZeroChannel - Checks if any RGB channel of a pixel is 0
+    *
+    * @param pix      - The Pixel
+    * @return boolean - True if red, green or blue is 0
+    */
+   public static boolean hasZeroChannel(final int pix)
+   {
+      final int rgb = pix & RGB_MASK;
+      return ((rgb - LOW_BITS) & ~rgb & HIGH_BITS) != 0;
+   }
+
+   /**
+    * isWhite - Checks if a pixel is white
+    *
+    * @param pix      - The Pixel
+    * @return boolean - True if red, green and blue are all 255
+    */
+   public static boolean isWhite(final int pix)
+   {
+      return (pix & RGB_MASK) == RGB_MASK;
+   }
+
+   /**
+    * brightenHalf - Raises every RGB channel c of a pixel to c + c/2. Only valid
+    *                for pixels whose channels are all below 128
+    *
+    * @param pix  - The Pixel
+    * @return int - The opaque brightened Pixel
+    */
+   public static int brightenHalf(final int pix)
+   {
+      final int rgb = pix & RGB_MASK;
+      return ALPHA | (rgb + ((rgb >> 1) & LOW_7_BITS));
+   }
+
+   /**
+    * divideRedBlue - Divides the red and blue lanes of a red/blue lane sum
+    *
+    * @param sum   - Sum of (pix & RB_MASK) over count pixels
+    * @param count - Number of Pixels summed
+    * @return int  - The averaged red and blue channels in place
+    */
+   public static int divideRedBlue(final int sum, final int count)
+   {
+      return (((sum >>> 16) / count) << 16) | ((sum & LANE_MASK) / count);
+   }
+
+   /**
+    * divideGreen - Divides the green lane of a green lane sum
+    *
+    * @param sum   - Sum of (pix & G_MASK) over count pixels
+    * @param count - Number of Pixels summed
+    * @return int  - The averaged green channel in place
+    */
+   public static int divideGreen(final int sum, final int count)
+   {
+      return ((sum >>> 8) / count) << 8;
+   }
+}
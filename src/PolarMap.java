@@ -0,0 +1,163 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * PolarMap - Precomputed polar coordinates of every pixel of a Radial Image with
+ *            given dimensions. The angle of a pixel around the center never changes
+ *            between frames, so rotating the spokes only needs the angle compared
+ *            against the phase modulo the spoke spacing.
+ *
+ *            Angles are binary angles, where the 2^32 values of an int are one turn,
+ *            so they wrap around with int overflow, and multiplying by the number of
+ *            spokes wraps an angle into the spacing between two spokes
+ */
+public final class PolarMap
+{
+   // Shared Maps by (width, height)
+   private static final Map<Long, PolarMap> MAPS = new ConcurrentHashMap<Long, PolarMap>();
+
+   // Angle of Pixels pointing up from the Center (in degrees)
+   private static final double BASE_ANGLE = -90.0;
+
+   // Half Width of a Spoke (pixels)
+   private static final double HALF_WIDTH = 0.5;
+
+   // Binary Angle Units per Turn and per Degree
+   private static final double UNITS_PER_TURN = 4294967296.0;
+   public static final double UNITS_PER_DEGREE = UNITS_PER_TURN / 360.0;
+
+   // Width/Height of the Image
+   private final int _width;
+   private final int _height;
+
+   // Angle of each Pixel clockwise from pointing up (Binary Angle)
+   private final int[] _angles;
+
+   // Half of the Angle a Spoke covers at the Radius of each Pixel (Binary Angle, up to half a turn)
+   private final int[] _halfAngles;
+
+   /**
+    * Constructor
+    *
+    * @param width  - The Width of the Image
+    * @param height - The Height of the Image
+    */
+   private PolarMap(final int width, final int height)
+   {
+      _width = width;
+      _height = height;
+      _angles = new int[width * height];
+      _halfAngles = new int[width * height];
+
+      // Center of the Image
+      final int centerX = width/2;
+      final int centerY = height/2;
+
+      for(int y = 0; y < height; ++y)
+      {
+         final int dy = y - centerY;
+
+         for(int x = 0; x < width; ++x)
+         {
+            final int dx = x - centerX;
+            final double r = Math.sqrt((dx * dx) + (dy * dy));
+
+            final double angle = Math.toDegrees(Math.atan2(dy, dx)) - BASE_ANGLE;
+            final double halfAngle = (r > 0) ? Math.min(180.0, Math.toDegrees(HALF_WIDTH / r)) : 180.0;
+
+            _angles[(y * width) + x] = toBinaryAngle(angle);
+            _halfAngles[(y * width) + x] = (int) Math.min(Integer.MAX_VALUE, Math.round(halfAngle * UNITS_PER_DEGREE));
+         }
+      }
+   }
+
+   /**
+    * get - Gets the shared Polar Map for the given dimensions
+    *
+    * @param width     - The Width of the Image
+    * @param height    - The Height of the Image
+    * @return PolarMap - The Polar Map
+    */
+   public static PolarMap get(final int width, final int height)
+   {
+      final long key = ((long) width << 21) | height;
+
+      // Build each Map once, even when Threads ask for it at the same time
+      return MAPS.computeIfAbsent(key, new Function<Long, PolarMap>()
+      {
+         @Override
+         public PolarMap apply(final Long k)
+         {
+            return new PolarMap(width, height);
+         }
+      });
+   }
+
+   /**
+    * getWidth - Gets the Width of the Image
+    *
+    * @return int
+    */
+   public int getWidth()
+   {
+      return _width;
+   }
+
+   /**
+    * getHeight - Gets the Height of the Image
+    *
+    * @return int
+    */
+   public int getHeight()
+   {
+      return _height;
+   }
+
+   /**
+    * getAngles - Gets the Angle of each Pixel clockwise from pointing up
+    *
+    * @return int[] - Binary Angles (row-major, do not modify)
+    */
+   public int[] getAngles()
+   {
+      return _angles;
+   }
+
+   /**
+    * getHalfAngles - Gets half of the Angle a Spoke of width 1 covers at each Pixel
+    *
+    * @return int[] - Binary Angles, at most half a turn (row-major, do not modify)
+    */
+   public int[] getHalfAngles()
+   {
+      return _halfAngles;
+   }
+
+   /**
+    * toBinaryAngle - Converts Degrees to a Binary Angle
+    *
+    * @param degrees - The Angle (Degrees, any Turn)
+    * @return int    - The Binary Angle
+    */
+   public static int toBinaryAngle(final double degrees)
+   {
+      double turns = (degrees / 360.0) % 1.0;
+      if(turns < 0)
+      {
+         turns += 1.0;
+      }
+      return (int) Math.round(turns * UNITS_PER_TURN);
+   }
+
+   /**
+    * toDegrees - Converts a Binary Angle to Degrees
+    *
+    * @param angle   - The Binary Angle
+    * @return double - The Angle (Degrees, 0..360)
+    */
+   public static double toDegrees(final int angle)
+   {
+      return (angle & 0xffffffffL) / UNITS_PER_DEGREE;
+   }
+}
@@ -1,405 +1,927 @@
-import java.awt.BasicStroke;
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-import java.awt.image.BufferedImage;
-
-import javax.swing.JPanel;
-import javax.swing.Timer;
-
-/**
- * RadialImage - Creates the Radial Image Object
- */
-public class RadialImage extends JPanel
-{
-   // Default Serial Id
-   private static final long serialVersionUID = 1L;
-
-   // Radial Image 
-   private BufferedImage _radialImage;
-
-   // Rotated Radial Image
-   private BufferedImage _rotatedImage;
-
-   // Video X/Y Offset
-   private static final int VIDEO_X_OFFSET = 30;
-   private static final int VIDEO_Y_OFFSET = 0;
-
-   // Width/Height of the Radial Image
-   private int _width;
-   private int _height;
-
-   // Center of Radial Image
-   private int _centerX;
-   private int _centerY;
-
-   // Number of Spokes on Radial Image
-   private final int _spokes;
-
-   // Initial Endpoint of first Radial Image Spoke
-   private double _initX;
-   private double _initY;
-
-   // Deg of Rotation
-   private double _theta;
-
-   /**
-    * Constructor
-    *
-    * @param width  - The Width of the Image
-    * @param height - The Height of the Image
-    * @param spokes - The Number of Spokes on the Radial Image
-    */
-   public RadialImage(final int width, final int height, final int spokes)
-   {
-      // Initialize a plain white image
-      _radialImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-
-      // Initialize Width/Height
-      _width = width;
-      _height = height;
-
-      // Initialize Center X and Center Y
-      _centerX = width/2;
-      _centerY = height/2;
-
-      // Initialize Degree of Rotation
-      _theta = 0;
-
-      // Initialize Initial X,Y Endpoint of First Spoke
-      _initX = (_width/2.0);
-      _initY = 0;
-
-      // Initialize Spokes
-      _spokes = spokes;
-
-      // Initialize Radial Image
-      _radialImage = generateImage(_spokes, _initX, _initY);
-   }
-
-   @Override
-   public void paintComponent(final Graphics g) 
-   {
-      super.paintComponent(g);
-      if (_rotatedImage != null) 
-      {
-         Graphics2D g2d = (Graphics2D) g.create();
-         g2d.drawImage(_rotatedImage, VIDEO_X_OFFSET, VIDEO_Y_OFFSET, this);
-         g2d.dispose();
-      }
-   }
-
-   /**
-    * getBufferedImage
-    *
-    * @return BufferedImage
-    */
-   public BufferedImage getBufferedImage()
-   {
-      return _radialImage;
-   }
-
-   /**
-    * generateImage - Creates Radial Image with n spokes
-    *
-    * @param numLines
-    */
-   public BufferedImage generateImage(final int spokes, final double endX, final double endY)
-   {
-      // Initialize new Radial Image
-      BufferedImage img = new BufferedImage(_width, _height, BufferedImage.TYPE_INT_ARGB);
-
-      // Iterate over Y coordinates of Image
-      for(int y = 0; y < _height; y++)
-      {
-         // Iterate over X coordinates of Image
-         for(int x = 0; x < _width; x++)
-         {
-            // Get Pixel Value
-            byte r = (byte) 255;
-            byte g = (byte) 255;
-            byte b = (byte) 255;
-            int pix = 0xff000000 | ((r & 0xff) << 16) | ((g & 0xff) << 8) | (b & 0xff);
-
-            // Set Pixel of Image to White
-            img.setRGB(x,y,pix);
-         }
-      }
-
-      // Draw Frame around Image
-      drawLine(img, 0, 0, _width-1, 0, Color.BLACK,1);                 // top edge
-      drawLine(img, 0, 0, 0, _height-1, Color.BLACK,1);                // left edge
-      drawLine(img, 0, _height-1, _width-1, _height-1, Color.BLACK,1); // bottom edge
-      drawLine(img, _width-1, _height-1, _width-1, 0, Color.BLACK,1);  // right edge
-
-      // Get Degrees of Spoke Rotation
-      double deg = (360.0/spokes);
-      double theta = Math.toRadians(deg);
-
-      // Initialize Line Endpoint
-      double x1 = endX;
-      double y1 = endY;
-
-      // Initialize Draw X/Y
-      double drawX = endX;
-      double drawY = endY;
-
-      // Iterate over the Remaining Lines
-      for(int i = 0; i < spokes; ++i)
-      {
-         // 1.) Translate so initial point is at origin
-         double translateX = x1 - _centerX;
-         double translateY = y1 - _centerY;
-
-         // 2.) Rotate around center point
-         double rotateX = (translateX * Math.cos(theta)) - (translateY * Math.sin(theta));
-         double rotateY = (translateY * Math.cos(theta)) + (translateX * Math.sin(theta));
-
-         // 3.) Undo Translation
-         x1 = rotateX + _centerX;
-         y1 = rotateY + _centerY;
-
-         // 4.) Extend Lines
-         double m = calculateSlope(0.0, 0.0, rotateX, rotateY);
-         double b = getYIntercept(x1, y1, m);
-
-         // Check if Slope is not 0 or Undefined
-         if((m != Double.NaN) && (Math.abs(m) > 0.001))
-         {
-            // Quadrant 1
-            if(m > 0 && y1 < _centerY)
-            {
-               drawX = _width;
-               drawY = (-m*drawX) + b;
-            }
-            // Quadrant 2
-            else if(m < 0 && y1 < _centerY)
-            {
-               drawX = 0;
-               drawY = (m*drawX) + b;
-            }
-            // Quadrant 3
-            else if(m > 0 && y1 > _centerY)
-            {
-               drawX = 0;
-               drawY = (m*drawX) + b;
-            }
-            // Quadrant 4
-            else if(m < 0 && y1 > _centerY)
-            {
-               drawX = _width;
-               drawY = (-m*drawX) + b;
-            }
-         }
-         else
-         {
-            drawX = x1;
-            drawY = y1;
-         }
-
-         // 5.) Draw the Line
-         drawLine(img, _centerX, _centerY, (int)Math.round(drawX), (int)Math.round(drawY), Color.BLACK, 1);
-
-//         // TODO: Uncomment to Test Rotation by Coloring one spoke RED
-//         if(i == spokes-1)
-//         {
-//            // 5.) Draw the Line
-//            drawLine(img, _centerX, _centerY, (int)Math.round(drawX), (int)Math.round(drawY), Color.RED, 5);
-//         }
-//         else
-//         {
-//            // 5.) Draw the Line
-//            drawLine(img, _centerX, _centerY, (int)Math.round(drawX), (int)Math.round(drawY), Color.BLACK, 1);
-//         }
-      }
-
-      return img;
-   }
-
-   /**
-    * rotate - Rotates the Radial Image
-    *
-    * @param s - Speed of Rotation
-    * @param fps - Frames per Second
-    */
-   public void rotate(final double s, final double fps)
-   {
-      rotate(s, fps, false);
-   }
-
-   /**
-    * rotate - Rotates the Radial Image
-    *
-    * @param s             - Speed of Rotation
-    * @param fps           - Frames per Second
-    * @param isAntiAlaised - AntiAliasing Indicator
-    */
-   public void rotate(final double s, final double fps, final boolean isAntiAliased)
-   {
-      rotate(s, fps, isAntiAliased, false);
-   }
-
-   /**
-    * rotate - Rotates the Radial Image
-    *
-    * @param s                      - Speed of Rotation
-    * @param fps                    - Frames per Second
-    * @param isAntiAlaised          - AntiAliasing Indicator
-    * @param isTemporarlAntiAliased - Temporal AntiAliasing Indicator
-    */
-   public void rotate(final double s, final double fps, final boolean isAntiAliased, final boolean isTemporalAntiAliased)
-   {
-      // Refresh Rate
-      final int refreshRate = (int) (1000/(fps));
-
-      // Get Rotation per Frame
-      _theta = (s * (360.0/fps));
-
-      //  Normalize Rotation (0 < theta <= 360)
-      while(_theta > 360.0)
-      {
-         _theta -= 360.0;
-      }
-
-      // Check if theta will eclipse 1 Rotation in next Frame
-      if(_theta > 180)
-      {
-         // Get observed turn per frame
-         _theta = 360 - _theta;
-      }
-
-      // Create Animation Timer
-      Timer timer = new Timer(refreshRate, new ActionListener()
-      {
-         @Override
-         public void actionPerformed(final ActionEvent e)
-         {
-            // Is Temporally and Spatially AntiAliased
-            if(isTemporalAntiAliased && isAntiAliased)
-            {
-               BufferedImage image = rotateTheImage(_radialImage, _theta);
-               BufferedImage temporalImage = ImageDisplay.temporalFilterImage(image);
-               _rotatedImage = ImageDisplay.filterImage(temporalImage);
-            }
-            // Is Temporally AntiAliased
-            else if(isTemporalAntiAliased)
-            {
-               BufferedImage image = rotateTheImage(_radialImage, _theta);
-               _rotatedImage = ImageDisplay.temporalFilterImage(image);
-            }
-            // Is Spatially AntiAliased
-            else if(isAntiAliased)
-            {
-               BufferedImage image = rotateTheImage(_radialImage, _theta);
-               _rotatedImage = ImageDisplay.filterImage(image);
-            }
-            // Allow liasing
-            else
-            {
-               _rotatedImage = rotateTheImage(_radialImage, _theta);
-            }
-
-            // Update Display
-            repaint();
-         }
-      });
-      timer.start();
-   }
-
-   /**
-    * rotateTheImage - Rotates the Initial Line of the Radial Image, and rotates 
-    *                  all other lines based off the first rotated line
-    *
-    * @param img            - The image to be rotate
-    * @param angle          - Degrees Image should be rotated by
-    * @return BufferedImage - The Rotated Image
-    */
-   public BufferedImage rotateTheImage(final BufferedImage img, final double angle)
-   {
-      // Find Degree of Rotation
-      final double theta = Math.toRadians(angle);
-
-      // Translate so initial point is at origin
-      final double translateX = _initX - (_width/2.0);
-      final double translateY = _initY - (_height/2.0);
-
-      // Rotate around center point
-      final double rotateX = (translateX * Math.cos(theta)) - (translateY * Math.sin(theta));
-      final double rotateY = (translateY * Math.cos(theta)) + (translateX * Math.sin(theta));
-
-      // Undo Translation
-      _initX = rotateX + (_width/2.0);
-      _initY = rotateY + (_height/2.0);
-
-      // Generate Radial Image
-      final BufferedImage rotatedImage = generateImage(_spokes, _initX, _initY);
-
-      return rotatedImage;
-   }
-
-   /**
-    * drawLine - Draws a black line on a given buffered image from the pixel
-    *            defined by (x1, y1) to (x2, y2)
-    *
-    * @param image
-    * @param x1
-    * @param y1
-    * @param x2
-    * @param y2
-    */
-   private void drawLine(final BufferedImage image, final int x1, final int y1, final int x2, final int y2, final Color c, final int s)
-   {
-      Graphics2D g = image.createGraphics();
-      g.setColor(c);
-      g.setStroke(new BasicStroke(s));
-      g.drawLine(x1, y1, x2, y2);
-      g.drawImage(image, 0, 0, null);
-   }
-
-   /**
-    * calculateSlope - Calculates the Slope of the Spoke (x1,y1) to (x2,y2)
-    *
-    * @param x1
-    * @param y1
-    * @param x2
-    * @param y2    
-    * @return double - The Slope of the LIne
-    */
-   private double calculateSlope(double x1, double y1, double x2, double y2)
-   {
-      // Initialize Slope Value
-      double m = 0;
-      double deltaX = x2 - x1;
-      double deltaY = y1 - y2; // Reversed due to Java Coordinate Space
-
-      // Set Undefined Slope (divide by 0)
-      if(Math.abs(deltaX) > 0.00001)
-      {
-         m = deltaY/deltaX;
-      }
-      else
-      {
-         m = Double.NaN;
-      }
-
-      return m;
-   }
-
-   /**
-    * getYIntercept - Gets the Y Intercept of the Line
-    *
-    * @param x1      - The X value of the Function
-    * @param y1      - The Y value of the Function
-    * @param m       - The Slope of the Line
-    * @return double - The Y Intercept
-    */
-   private double getYIntercept(double x1, double y1, double m)
-   {
-      // Calculate Y Intercept
-      double b = y1 + (m*x1);
-
-      return b;
-   }
-}
\ No newline at end of file
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+/**
+ * RadialImage - Creates the Radial Image Object
+ */
+public class RadialImage extends JPanel
+{
+   // Default Serial Id
+   private static final long serialVersionUID = 1L;
+
+   // Radial Image 
+   private BufferedImage _radialImage;
+
+   // Rotated Radial Image
+   private BufferedImage _rotatedImage;
+
+   // Frame of the Pipeline shown as the Rotated Radial Image (released when replaced)
+   private FramePipeline.Frame _shownFrame;
+
+   // Failure that stopped the Animation (null while playing)
+   private Throwable _failure;
+
+   // Presenter of the Rotated Radial Image
+   private final FramePresenter _presenter = new FramePresenter();
+
+   // Background and Frame Pixel Colors
+   private static final int WHITE = 0xffffffff;
+   private static final int BLACK = 0xff000000;
+
+   // Video X/Y Offset
+   private static final int VIDEO_X_OFFSET = 30;
+   private static final int VIDEO_Y_OFFSET = 0;
+
+   // Width/Height of the Radial Image
+   private int _width;
+   private int _height;
+
+   // Center of Radial Image
+   private int _centerX;
+   private int _centerY;
+
+   // Number of Spokes on Radial Image
+   private final int _spokes;
+
+   // Rotation of the first Radial Image Spoke from pointing up (Degrees)
+   private double _phase;
+
+   // Deg of Rotation
+   private double _theta;
+
+   // Indicator if Spokes are anti-aliased when generated instead of filtered
+   private boolean _isAnalyticAntiAliased;
+
+   // Indicator if Frames are rendered by scanning the Polar Map instead of drawing Lines
+   private boolean _isPolarRendered;
+
+   // Samples per Axis of each Pixel of anti-aliased Frames (1 to filter instead)
+   private int _samples = 1;
+
+   // Cache of Rendered Frames of this Image (keyed by phase only, so never shared)
+   private final FrameCache _frameCache = new FrameCache();
+
+   // Indicator if temporally anti-aliased Frames are rendered motion blurred in closed form
+   private boolean _isMotionBlurAnalytic = true;
+
+   // Sub-Frames blended into each Frame when Temporally AntiAliased (1 to filter single Frames)
+   private int _historyFrames = 1;
+
+   // Sub-Frames rendered per Frame, evenly spaced over the rotation since the previous Frame
+   private int _historySteps = 1;
+
+   // Weight Decay per Sub-Frame of Age of the blended Sub-Frames
+   private double _historyDecay = 1.0;
+
+   // Animation Timer, Frame Schedule and Background Frame Renderer
+   private Timer _timer;
+   private FrameScheduler _scheduler;
+   private FramePipeline _pipeline;
+
+   // Number of Timer Ticks per Frame used to sample the Frame Schedule
+   private static final int TICKS_PER_FRAME = 4;
+
+   // Frame Cache Mode Bits
+   private static final int MODE_ANTI_ALIASED = 1;
+   private static final int MODE_TEMPORAL = 2;
+   private static final int MODE_ANALYTIC = 4;
+   private static final int MODE_POLAR = 8;
+
+   // Frame Cache Mode Bits holding the Samples per Axis minus one
+   private static final int MODE_SAMPLES_SHIFT = 4;
+
+   /**
+    * Constructor - Creates a Panel that only plays Frames, such as Frames read
+    *               from a Frame Container, without rendering a Radial Image
+    *
+    * @param width  - The Width of the Frames
+    * @param height - The Height of the Frames
+    */
+   public RadialImage(final int width, final int height)
+   {
+      this(width, height, 0, false);
+   }
+
+   /**
+    * Constructor
+    *
+    * @param width  - The Width of the Image
+    * @param height - The Height of the Image
+    * @param spokes - The Number of Spokes on the Radial Image
+    */
+   public RadialImage(final int width, final int height, final int spokes)
+   {
+      this(width, height, spokes, true);
+   }
+
+   /**
+    * Constructor
+    *
+    * @param width      - The Width of the Image
+    * @param height     - The Height of the Image
+    * @param spokes     - The Number of Spokes on the Radial Image
+    * @param isRendered - Indicator if the Radial Image is rendered
+    */
+   private RadialImage(final int width, final int height, final int spokes, final boolean isRendered)
+   {
+      if(spokes < 0)
+      {
+         throw new IllegalArgumentException("Invalid spoke count " + spokes);
+      }
+
+      // Initialize Width/Height
+      _width = width;
+      _height = height;
+
+      // Initialize Center X and Center Y
+      _centerX = width/2;
+      _centerY = height/2;
+
+      // Initialize Degree of Rotation
+      _theta = 0;
+
+      // Initialize Rotation of First Spoke
+      _phase = 0;
+
+      // Initialize Spokes
+      _spokes = spokes;
+
+      // Only play Frames, over a plain Image
+      if(!isRendered)
+      {
+         _radialImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+         return;
+      }
+
+      // Initialize Radial Image, shared with identical Radial Images
+      _radialImage = RenderCache.getShared().get(width, height, spokes, _phase, new RenderCache.Renderer()
+      {
+         @Override
+         public BufferedImage render()
+         {
+            return generateImage(_spokes, _phase, false);
+         }
+      });
+   }
+
+   @Override
+   public void paintComponent(final Graphics g) 
+   {
+      super.paintComponent(g);
+      if (_rotatedImage != null) 
+      {
+         Graphics2D g2d = (Graphics2D) g.create();
+         _presenter.present(g2d, this, _rotatedImage, VIDEO_X_OFFSET, VIDEO_Y_OFFSET);
+         g2d.dispose();
+      }
+
+      // Show the achieved Frame Rate against the requested one
+      final FrameScheduler scheduler = _scheduler;
+      if(scheduler != null)
+      {
+         g.setColor(Color.BLACK);
+         g.drawString(scheduler.toString(), VIDEO_X_OFFSET, VIDEO_Y_OFFSET + _height + g.getFontMetrics().getHeight());
+      }
+
+      // Show why the Animation stopped
+      if(_failure != null)
+      {
+         g.setColor(Color.RED);
+         g.drawString("Rendering failed: " + _failure, VIDEO_X_OFFSET, VIDEO_Y_OFFSET + g.getFontMetrics().getHeight());
+      }
+   }
+
+   @Override
+   public void removeNotify()
+   {
+      super.removeNotify();
+      _presenter.flush();
+   }
+
+   /**
+    * getBufferedImage - Gets the Radial Image. The Image is shared through the
+    *                    RenderCache with every Radial Image of the same size and
+    *                    spokes, so it must not be modified (copy it to draw on it)
+    *
+    * @return BufferedImage - The shared Radial Image (do not modify)
+    */
+   public BufferedImage getBufferedImage()
+   {
+      return _radialImage;
+   }
+
+   /**
+    * setAnalyticAntiAliasing - Sets if anti-aliased rotations draw the spokes
+    *                           anti-aliased (Xiaolin Wu) instead of filtering
+    *                           the generated image
+    *
+    * @param isAnalyticAntiAliased - Analytic AntiAliasing Indicator
+    */
+   public void setAnalyticAntiAliasing(final boolean isAnalyticAntiAliased)
+   {
+      _isAnalyticAntiAliased = isAnalyticAntiAliased;
+   }
+
+   /**
+    * setPolarRendering - Sets if rotations render each frame with one scan over the
+    *                     precomputed angle of every pixel (PolarMap) instead of
+    *                     drawing each spoke, so the frame cost does not depend on
+    *                     the number of spokes
+    *
+    * @param isPolarRendered - Polar Rendering Indicator
+    */
+   public void setPolarRendering(final boolean isPolarRendered)
+   {
+      _isPolarRendered = isPolarRendered;
+   }
+
+   /**
+    * setSupersampling - Sets if anti-aliased rotations render each frame at its size
+    *                    with samples x samples stratified samples per pixel, instead
+    *                    of drawing the spokes and filtering the image
+    *
+    * @param samples - Samples per Axis of each Pixel (1 to filter instead)
+    */
+   public void setSupersampling(final int samples)
+   {
+      if((samples < 1) || (samples > SupersampledRenderer.MAX_SAMPLES))
+      {
+         throw new IllegalArgumentException("Invalid supersampling " + samples);
+      }
+
+      _samples = samples;
+   }
+
+   /**
+    * getFrameCache - Gets the Cache of Rendered Frames used while rotating
+    *
+    * @return FrameCache - The Frame Cache
+    */
+   public FrameCache getFrameCache()
+   {
+      return _frameCache;
+   }
+
+   /**
+    * setAnalyticMotionBlur - Sets if temporally anti-aliased rotations render each
+    *                         frame motion blurred over the rotation during the frame
+    *                         (MotionBlurRenderer) instead of shading the generated
+    *                         image with ImageDisplay.temporalFilterImage
+    *
+    * @param isMotionBlurAnalytic - Analytic Motion Blur Indicator
+    */
+   public void setAnalyticMotionBlur(final boolean isMotionBlurAnalytic)
+   {
+      _isMotionBlurAnalytic = isMotionBlurAnalytic;
+   }
+
+   /**
+    * setTemporalHistory - Sets if temporally anti-aliased rotations blend each frame
+    *                      from the most recent sub-frames (TemporalAccumulator) instead
+    *                      of rendering or shading single frames. Each frame renders
+    *                      new sub-frames evenly spaced over the actual rotation since
+    *                      the previous frame, and shows the blend of the last sub-frames,
+    *                      each weighted by decay to the power of its age in sub-frames
+    *                      (frames == steps with decay 1 blurs evenly over one frame)
+    *
+    * @param frames - Number of Sub-Frames blended per Frame (1 to disable)
+    * @param steps  - Number of Sub-Frames rendered per Frame (1..frames)
+    * @param decay  - Weight Decay per Sub-Frame of Age (1 for an even blur)
+    */
+   public void setTemporalHistory(final int frames, final int steps, final double decay)
+   {
+      if(frames < 1)
+      {
+         throw new IllegalArgumentException("Invalid history length " + frames);
+      }
+
+      if((steps < 1) || (steps > frames))
+      {
+         throw new IllegalArgumentException("Invalid history steps " + steps);
+      }
+
+      if(!((decay > 0) && (decay <= 1)))
+      {
+         throw new IllegalArgumentException("Invalid history decay " + decay);
+      }
+
+      _historyFrames = frames;
+      _historySteps = steps;
+      _historyDecay = decay;
+   }
+
+   /**
+    * generateImage - Creates Radial Image with n spokes
+    *
+    * @param numLines
+    */
+   public BufferedImage generateImage(final int spokes, final double endX, final double endY)
+   {
+      return generateImage(spokes, endX, endY, false);
+   }
+
+   /**
+    * generateImage - Creates Radial Image with n spokes
+    *
+    * @param spokes        - The Number of Spokes
+    * @param endX          - X Endpoint of the first Spoke
+    * @param endY          - Y Endpoint of the first Spoke
+    * @param isAntiAliased - Indicator if the Spokes are drawn anti-aliased
+    * @return BufferedImage - The Radial Image
+    */
+   public BufferedImage generateImage(final int spokes, final double endX, final double endY, final boolean isAntiAliased)
+   {
+      // Get Rotation of the Endpoint from pointing up
+      final double phase = Math.toDegrees(Math.atan2(endY - _centerY, endX - _centerX)) + 90.0;
+
+      return generateImage(spokes, phase, isAntiAliased);
+   }
+
+   /**
+    * generateImage - Creates Radial Image with n spokes
+    *
+    * @param spokes         - The Number of Spokes
+    * @param phase          - Rotation of the first Spoke from pointing up (Degrees)
+    * @param isAntiAliased  - Indicator if the Spokes are drawn anti-aliased
+    * @return BufferedImage - The Radial Image
+    */
+   public BufferedImage generateImage(final int spokes, final double phase, final boolean isAntiAliased)
+   {
+      if(spokes < 0)
+      {
+         throw new IllegalArgumentException("Invalid spoke count " + spokes);
+      }
+
+      // Initialize new Radial Image
+      BufferedImage img = ImageRaster.createImage(_width, _height);
+
+      // Get Backing Pixel Array of Image
+      final int[] pixels = ImageRaster.getData(img);
+
+      // Set Pixels of Image to White
+      Arrays.fill(pixels, WHITE);
+
+      // Draw Frame around Image
+      fillRow(pixels, 0, BLACK);           // top edge
+      fillRow(pixels, _height-1, BLACK);   // bottom edge
+      fillColumn(pixels, 0, BLACK);        // left edge
+      fillColumn(pixels, _width-1, BLACK); // right edge
+
+      // Without Spokes only the Frame is drawn
+      if(spokes == 0)
+      {
+         return img;
+      }
+
+      // Get Endpoints of the rotated Spokes from the Spoke Table
+      final double[] endX = new double[spokes];
+      final double[] endY = new double[spokes];
+      SpokeTable.get(spokes, _width, _height).getEndpoints(phase, endX, endY);
+
+      // Rasterizer for the Spokes
+      final LineRasterizer rasterizer = new LineRasterizer(pixels, _width, _height);
+
+      // Iterate over the Lines
+      for(int i = 0; i < spokes; ++i)
+      {
+         // Draw the Line
+         if(isAntiAliased)
+         {
+            rasterizer.drawLineAntiAliased(_centerX, _centerY, endX[i], endY[i], BLACK);
+         }
+         else
+         {
+            rasterizer.drawLine(_centerX, _centerY, endX[i], endY[i], BLACK);
+         }
+
+//         // TODO: Uncomment to Test Rotation by Coloring one spoke RED
+//         if(i == 0)
+//         {
+//            // Draw the Line
+//            rasterizer.drawLine(_centerX, _centerY, endX[i], endY[i], 0xffff0000);
+//         }
+      }
+
+      return img;
+   }
+
+   /**
+    * generateMotionBlurredImage - Creates the Radial Image with each pixel shaded by
+    *                              the fraction of a Frame it is covered by a spoke
+    *                              while the image rotates by sweep into the phase
+    *
+    * @param phase          - Rotation of the first Spoke at the end of the Frame (Degrees)
+    * @param sweep          - Rotation during the Frame (Degrees, negative when rotating
+    *                         backwards, 0 for sharp Spokes)
+    * @return BufferedImage - The Radial Image
+    */
+   public BufferedImage generateMotionBlurredImage(final double phase, final double sweep)
+   {
+      return generatePolarImage(phase, sweep);
+   }
+
+   /**
+    * rotate - Rotates the Radial Image
+    *
+    * @param s - Speed of Rotation
+    * @param fps - Frames per Second
+    */
+   public void rotate(final double s, final double fps)
+   {
+      rotate(s, fps, false);
+   }
+
+   /**
+    * rotate - Rotates the Radial Image
+    *
+    * @param s             - Speed of Rotation
+    * @param fps           - Frames per Second
+    * @param isAntiAlaised - AntiAliasing Indicator
+    */
+   public void rotate(final double s, final double fps, final boolean isAntiAliased)
+   {
+      rotate(s, fps, isAntiAliased, false);
+   }
+
+   /**
+    * rotate - Rotates the Radial Image
+    *
+    * @param s                      - Speed of Rotation
+    * @param fps                    - Frames per Second
+    * @param isAntiAlaised          - AntiAliasing Indicator
+    * @param isTemporarlAntiAliased - Temporal AntiAliasing Indicator
+    */
+   public void rotate(final double s, final double fps, final boolean isAntiAliased, final boolean isTemporalAntiAliased)
+   {
+      play(createRenderer(s, fps, isAntiAliased, isTemporalAntiAliased), fps);
+   }
+
+   /**
+    * play - Shows the Frames of a Renderer at a fixed Frame Rate, such as the
+    *        Rotation of this Image or Frames read from a Frame Container
+    *
+    * @param renderer - Renderer of the Frames (called in order from a Background Thread)
+    * @param fps      - Frames per Second
+    */
+   public void play(final FramePipeline.Renderer renderer, final double fps)
+   {
+      // Timer Interval used to sample the Frame Schedule (ms)
+      final int pollRate = Math.max(1, (int) (1000/(fps * TICKS_PER_FRAME)));
+
+      // Stop any previous Animation
+      stopRotation();
+
+      // Render Frames on a Background Thread
+      final FramePipeline pipeline = new FramePipeline("RadialImage-renderer", FramePipeline.DEFAULT_CAPACITY,
+                                                       _width, _height, renderer);
+      _failure = null;
+
+      // Present Frames on a fixed timestep Schedule
+      final FrameScheduler scheduler = new FrameScheduler(fps);
+
+      // Create Animation Timer
+      _timer = new Timer(pollRate, new ActionListener()
+      {
+         @Override
+         public void actionPerformed(final ActionEvent e)
+         {
+            // Stop the Animation when the Renderer failed, show the Failure on the
+            // Panel and pass it to the Event Dispatch Thread
+            final Throwable failure = pipeline.getFailure();
+            if(failure != null)
+            {
+               stopRotation();
+               _failure = failure;
+               repaint();
+               throw new IllegalStateException("Rendering frames failed", failure);
+            }
+
+            // Get the Frame due now
+            final long target = scheduler.getTargetIndex(System.nanoTime());
+            scheduler.advance(target);
+
+            // Drop Frames that missed their Slot
+            FramePipeline.Frame frame = pipeline.peek();
+            while((frame != null) && (frame.getIndex() < target))
+            {
+               pipeline.release(pipeline.poll());
+               scheduler.drop();
+               frame = pipeline.peek();
+            }
+
+            // Swap in the Frame due now
+            if((frame != null) && (frame.getIndex() == target))
+            {
+               pipeline.poll();
+               scheduler.present(target);
+
+               // Reuse the Image of the Frame shown until now
+               if(_shownFrame != null)
+               {
+                  pipeline.release(_shownFrame);
+               }
+               _shownFrame = frame;
+               _rotatedImage = frame.getImage();
+
+               // Update Display
+               repaint();
+            }
+            // Renderer is behind, continue rendering at the next Slot
+            else if(frame == null)
+            {
+               pipeline.skipTo(target + 1);
+            }
+         }
+      });
+
+      _scheduler = scheduler;
+      _pipeline = pipeline;
+      _scheduler.start();
+      _pipeline.start();
+      _timer.start();
+   }
+
+   /**
+    * createRenderer - Creates the Renderer of the Frames of a Rotation, for the
+    *                  Frame Pipeline or for rendering Frames offline. Frames must be
+    *                  rendered in order when Sub-Frames are blended
+    *
+    * @param s                       - Speed of Rotation
+    * @param fps                     - Frames per Second
+    * @param isAntiAliased           - AntiAliasing Indicator
+    * @param isTemporalAntiAliased   - Temporal AntiAliasing Indicator
+    * @return FramePipeline.Renderer - Renderer of the Frame with each Index
+    */
+   public FramePipeline.Renderer createRenderer(final double s, final double fps, final boolean isAntiAliased,
+                                                final boolean isTemporalAntiAliased)
+   {
+      // Get actual Rotation during a Frame
+      final double sweep = s * (360.0/fps);
+
+      // Get Rotation per Frame, normalized to one Turn (-360 < theta < 360) so the
+      // Spokes sit where the actual Rotation puts them. Every Path steps the Phase
+      // by it, so switching Temporal AntiAliasing never changes the Direction
+      _theta = sweep % 360.0;
+
+      final double startPhase = _phase;
+      final double theta = _theta;
+      final int steps = _historySteps;
+      final TemporalAccumulator history = (isTemporalAntiAliased && (_historyFrames > 1))
+                                        ? new TemporalAccumulator(_width, _height, _historyFrames, _historyDecay) : null;
+      final boolean isMotionBlurred = isTemporalAntiAliased && (history == null) && _isMotionBlurAnalytic;
+
+      return new FramePipeline.Renderer()
+      {
+         @Override
+         public void render(final long index, final BufferedImage frame)
+         {
+            // Blend the Sub-Frames since the previous Frame
+            if(history != null)
+            {
+               renderBlurredFrame(history, steps, FrameScheduler.getPhase(startPhase, theta, index), sweep, isAntiAliased, frame);
+            }
+            // Integrate the actual Rotation over each Frame
+            else if(isMotionBlurred)
+            {
+               renderMotionBlurredFrame(FrameScheduler.getPhase(startPhase, theta, index), sweep, isAntiAliased, frame);
+            }
+            // Rotate the Image by one Frame per Index (Frames may come from the Frame Cache)
+            else
+            {
+               copyFrame(renderFrame(FrameScheduler.getPhase(startPhase, theta, index), isAntiAliased, isTemporalAntiAliased), frame);
+            }
+         }
+      };
+   }
+
+   /**
+    * getFrameScheduler - Gets the Frame Schedule of the current Rotation
+    *
+    * @return FrameScheduler - The Frame Schedule (null if not rotating)
+    */
+   public FrameScheduler getFrameScheduler()
+   {
+      return _scheduler;
+   }
+
+   /**
+    * stopRotation - Stops Rotating the Radial Image
+    */
+   public void stopRotation()
+   {
+      if(_timer != null)
+      {
+         _timer.stop();
+         _timer = null;
+      }
+
+      if(_pipeline != null)
+      {
+         _pipeline.stop();
+         _pipeline = null;
+      }
+
+      // Keep showing the last Frame, its Image is no longer reused
+      _shownFrame = null;
+
+      // Report the Frame Rate achieved by the stopped Animation
+      if(_scheduler != null)
+      {
+         System.out.println("Stopped rotation: " + _scheduler);
+      }
+
+      _scheduler = null;
+   }
+
+   /**
+    * rotateTheImage - Rotates the Initial Line of the Radial Image, and rotates 
+    *                  all other lines based off the first rotated line
+    *
+    * @param img            - The image to be rotate
+    * @param angle          - Degrees Image should be rotated by
+    * @return BufferedImage - The Rotated Image
+    */
+   public BufferedImage rotateTheImage(final BufferedImage img, final double angle)
+   {
+      return rotateTheImage(img, angle, false);
+   }
+
+   /**
+    * rotateTheImage - Rotates the Initial Line of the Radial Image, and rotates 
+    *                  all other lines based off the first rotated line
+    *
+    * @param img            - The image to be rotate
+    * @param angle          - Degrees Image should be rotated by
+    * @param isAntiAliased  - Indicator if the Spokes are drawn anti-aliased
+    * @return BufferedImage - The Rotated Image
+    */
+   public BufferedImage rotateTheImage(final BufferedImage img, final double angle, final boolean isAntiAliased)
+   {
+      // Rotate the first Spoke
+      rotatePhase(angle);
+
+      // Generate Radial Image
+      final BufferedImage rotatedImage = generateImage(_spokes, _phase, isAntiAliased);
+
+      return rotatedImage;
+   }
+
+   /**
+    * rotatePhase - Rotates the first Spoke of the Radial Image
+    *
+    * @param angle - Degrees Image should be rotated by
+    */
+   private void rotatePhase(final double angle)
+   {
+      // Normalize Rotation (0 <= phase < 360)
+      _phase = (_phase + angle) % 360.0;
+      if(_phase < 0)
+      {
+         _phase += 360.0;
+      }
+   }
+
+   /**
+    * renderFrame - Renders the Radial Image at a given rotation, applying the
+    *               requested filters, or gets the Frame from the Frame Cache
+    *
+    * @param phase                 - Rotation of the first Spoke (Degrees)
+    * @param isAntiAliased         - AntiAliasing Indicator
+    * @param isTemporalAntiAliased - Temporal AntiAliasing Indicator
+    * @return BufferedImage        - The Frame
+    */
+   private BufferedImage renderFrame(final double phase, final boolean isAntiAliased, final boolean isTemporalAntiAliased)
+   {
+      // Check if Spokes are anti-aliased when generated
+      final boolean isSupersampled = isAntiAliased && (_samples > 1);
+      final boolean isAnalytic = isAntiAliased && _isAnalyticAntiAliased && !isSupersampled;
+      final boolean isPolar = _isPolarRendered && !isAnalytic && !isSupersampled;
+
+      // Get Rotational Symmetry of the Image (a full turn without Spokes)
+      final double period = (_spokes > 0) ? (360.0/_spokes) : 360.0;
+      final int mode = (isAntiAliased ? MODE_ANTI_ALIASED : 0)
+                     | (isTemporalAntiAliased ? MODE_TEMPORAL : 0)
+                     | (isAnalytic ? MODE_ANALYTIC : 0)
+                     | (isPolar ? MODE_POLAR : 0)
+                     | (isSupersampled ? ((_samples - 1) << MODE_SAMPLES_SHIFT) : 0);
+
+      // Check if Frame was already rendered
+      final BufferedImage frame = _frameCache.get(phase, period, mode);
+      if(frame != null)
+      {
+         return frame;
+      }
+
+      // Render at the quantized Phase so the Frame matches its Cache Key
+      final double renderPhase = _frameCache.snap(phase, period);
+      BufferedImage image;
+      if(isSupersampled)
+      {
+         image = generateSupersampledImage(renderPhase, _samples);
+      }
+      else if(isPolar)
+      {
+         image = generatePolarImage(renderPhase, 0.0);
+      }
+      else
+      {
+         image = generateImage(_spokes, renderPhase, isAnalytic);
+      }
+
+      // Is Temporally AntiAliased
+      if(isTemporalAntiAliased)
+      {
+         image = ImageDisplay.temporalFilterImage(image, image);
+      }
+
+      // Is Spatially AntiAliased by Filtering
+      if(isAntiAliased && !isAnalytic && !isSupersampled)
+      {
+         image = ImageDisplay.filterImage(image);
+      }
+
+      // Cache the Frame
+      _frameCache.put(phase, period, mode, image);
+
+      return image;
+   }
+
+   /**
+    * renderMotionBlurredFrame - Renders a Frame with each pixel shaded by the fraction
+    *                            of the Frame it is covered by a spoke while the image
+    *                            rotates by sweep into the given phase
+    *
+    * @param phase          - Rotation of the first Spoke at the end of the Frame (Degrees)
+    * @param sweep          - Rotation during the Frame (Degrees, negative when rotating backwards)
+    * @param isAntiAliased  - AntiAliasing Indicator
+    * @param frame          - Image to draw the Frame into
+    */
+   private void renderMotionBlurredFrame(final double phase, final double sweep, final boolean isAntiAliased,
+                                         final BufferedImage frame)
+   {
+      // Is Spatially AntiAliased by Filtering
+      if(isAntiAliased)
+      {
+         copyFrame(ImageDisplay.filterImage(generatePolarImage(phase, sweep)), frame);
+      }
+      else
+      {
+         drawPolarImage(ImageRaster.getData(frame), phase, sweep);
+      }
+   }
+
+   /**
+    * generateSupersampledImage - Creates the Radial Image with samples x samples
+    *                             Samples per Pixel
+    *
+    * @param phase          - Rotation of the first Spoke (Degrees)
+    * @param samples        - Samples per Axis of each Pixel
+    * @return BufferedImage - The Radial Image
+    */
+   private BufferedImage generateSupersampledImage(final double phase, final int samples)
+   {
+      // Without Spokes only the Frame is drawn
+      if(_spokes == 0)
+      {
+         return generateImage(0, phase, false);
+      }
+
+      // Render the Spokes
+      final BufferedImage image = ImageRaster.createImage(_width, _height);
+      final int[] pixels = ImageRaster.getData(image);
+      SupersampledRenderer.render(pixels, _width, _height, _spokes, phase, samples);
+
+      // Draw Frame around Image
+      fillRow(pixels, 0, BLACK);
+      fillRow(pixels, _height-1, BLACK);
+      fillColumn(pixels, 0, BLACK);
+      fillColumn(pixels, _width-1, BLACK);
+
+      return image;
+   }
+
+   /**
+    * generatePolarImage - Creates the Radial Image by scanning the Polar Map
+    *
+    * @param phase          - Rotation of the first Spoke at the end of the Frame (Degrees)
+    * @param sweep          - Rotation during the Frame (Degrees, negative when rotating
+    *                         backwards, 0 for sharp Spokes)
+    * @return BufferedImage - The Radial Image
+    */
+   private BufferedImage generatePolarImage(final double phase, final double sweep)
+   {
+      final BufferedImage image = ImageRaster.createImage(_width, _height);
+      drawPolarImage(ImageRaster.getData(image), phase, sweep);
+      return image;
+   }
+
+   /**
+    * drawPolarImage - Draws the Radial Image into Pixels by scanning the Polar Map
+    *
+    * @param pixels - Pixels of the Image (row-major, every pixel is drawn)
+    * @param phase  - Rotation of the first Spoke at the end of the Frame (Degrees)
+    * @param sweep  - Rotation during the Frame (Degrees, negative when rotating
+    *                 backwards, 0 for sharp Spokes)
+    */
+   private void drawPolarImage(final int[] pixels, final double phase, final double sweep)
+   {
+      // Without Spokes only the Frame is drawn
+      if(_spokes == 0)
+      {
+         Arrays.fill(pixels, WHITE);
+      }
+      // A backwards Rotation covers phase to phase - sweep, the same Shutter as a
+      // forwards Rotation by the magnitude ending at phase - sweep
+      else if(sweep < 0)
+      {
+         MotionBlurRenderer.render(pixels, _width, _height, _spokes, phase - sweep, -sweep);
+      }
+      else
+      {
+         MotionBlurRenderer.render(pixels, _width, _height, _spokes, phase, sweep);
+      }
+
+      // Draw Frame around Image
+      fillRow(pixels, 0, BLACK);
+      fillRow(pixels, _height-1, BLACK);
+      fillColumn(pixels, 0, BLACK);
+      fillColumn(pixels, _width-1, BLACK);
+   }
+
+   /**
+    * renderBlurredFrame - Renders a motion blurred Frame by pushing the new Sub-Frames
+    *                      over the rotation since the previous Frame into the Frame
+    *                      History and blending it. Sub-Frames come from the Frame
+    *                      Cache when possible, and the blend reuses the running sums
+    *                      of the History, so older Sub-Frames are never re-rendered
+    *
+    * @param history        - The Frame History (one Sub-Frame per slot)
+    * @param steps          - Number of new Sub-Frames
+    * @param phase          - Rotation of the first Spoke of the Frame (Degrees)
+    * @param sweep          - Actual Rotation since the previous Frame (Degrees, not
+    *                         reduced to one turn, negative when rotating backwards)
+    * @param isAntiAliased  - AntiAliasing Indicator
+    * @param frame          - Image to blend the Frame into
+    */
+   private void renderBlurredFrame(final TemporalAccumulator history, final int steps, final double phase,
+                                   final double sweep, final boolean isAntiAliased, final BufferedImage frame)
+   {
+      // Push new Sub-Frames from the oldest to the Frame itself
+      for(int k = steps - 1; k >= 0; --k)
+      {
+         final BufferedImage subFrame = renderFrame(phase - ((sweep * k) / steps), isAntiAliased, false);
+         history.push(ImageRaster.getPixels(subFrame));
+      }
+
+      // Blend the Sub-Frames into the Frame
+      history.resolve(ImageRaster.getData(frame));
+   }
+
+   /**
+    * copyFrame - Copies a rendered Image into the Image of a Frame
+    *
+    * @param image - The rendered Image (width x height)
+    * @param frame - Image of the Frame
+    */
+   private static void copyFrame(final BufferedImage image, final BufferedImage frame)
+   {
+      final int[] pixels = ImageRaster.getPixels(image);
+      System.arraycopy(pixels, 0, ImageRaster.getData(frame), 0, pixels.length);
+   }
+
+   /**
+    * fillRow - Fills a Row of the Pixel Array with a given color
+    *
+    * @param pixels - The Pixel Array of the Image
+    * @param y      - The Row to Fill
+    * @param color  - The ARGB Color
+    */
+   private void fillRow(final int[] pixels, final int y, final int color)
+   {
+      final int offset = y * _width;
+      Arrays.fill(pixels, offset, offset + _width, color);
+   }
+
+   /**
+    * fillColumn - Fills a Column of the Pixel Array with a given color
+    *
+    * @param pixels - The Pixel Array of the Image
+    * @param x      - The Column to Fill
+    * @param color  - The ARGB Color
+    */
+   private void fillColumn(final int[] pixels, final int x, final int color)
+   {
+      for(int offset = x; offset < pixels.length; offset += _width)
+      {
+         pixels[offset] = color;
+      }
+   }
+}
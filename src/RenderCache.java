@@ -0,0 +1,376 @@
+import java.awt.image.BufferedImage;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * RenderCache - Content addressed cache of rendered Radial Image sources, keyed by
+ *               (width, height, spokes, phase), so identical sources are rendered
+ *               once and shared between Radial Images and analysis runs.
+ *
+ *               Recently used images are held strongly up to a memory cap. Images
+ *               evicted from there stay reachable through soft references until the
+ *               garbage collector needs the memory. Concurrent misses of one key
+ *               render it once. Cached images are shared and must not be modified
+ */
+public final class RenderCache
+{
+   // Default Memory Cap of the strongly held Images (Bytes)
+   public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+   // Cache shared by all Radial Images
+   private static final RenderCache SHARED = new RenderCache(DEFAULT_MAX_BYTES);
+
+   /**
+    * Renderer - Renders the image of a key on a miss
+    */
+   public interface Renderer
+   {
+      /**
+       * render - Renders the Image
+       *
+       * @return BufferedImage - The Image (int packed)
+       */
+      BufferedImage render();
+   }
+
+   /**
+    * Key - Width, Height, Spokes and normalized Phase of an Image
+    */
+   private static final class Key
+   {
+      // Width/Height of the Image
+      private final int _width;
+      private final int _height;
+
+      // Number of Spokes
+      private final int _spokes;
+
+      // Bits of the Phase (0 <= phase < 360)
+      private final long _phase;
+
+      /**
+       * Constructor
+       *
+       * @param width  - Width of the Image
+       * @param height - Height of the Image
+       * @param spokes - Number of Spokes
+       * @param phase  - Rotation of the first Spoke (Degrees)
+       */
+      Key(final int width, final int height, final int spokes, final double phase)
+      {
+         // Normalize Phase (0 <= phase < 360)
+         double p = phase % 360.0;
+         if(p < 0)
+         {
+            p += 360.0;
+         }
+
+         _width = width;
+         _height = height;
+         _spokes = spokes;
+         _phase = Double.doubleToLongBits(p + 0.0);
+      }
+
+      @Override
+      public boolean equals(final Object o)
+      {
+         if(!(o instanceof Key))
+         {
+            return false;
+         }
+
+         final Key k = (Key) o;
+         return (_width == k._width) && (_height == k._height) && (_spokes == k._spokes) && (_phase == k._phase);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return (((((_width * 31) + _height) * 31) + _spokes) * 31) + Long.hashCode(_phase);
+      }
+   }
+
+   /**
+    * SoftImage - Soft Reference to an evicted Image that remembers its Key
+    */
+   private static final class SoftImage extends SoftReference<BufferedImage>
+   {
+      // Key of the Image
+      private final Key _key;
+
+      /**
+       * Constructor
+       *
+       * @param key   - Key of the Image
+       * @param image - The Image
+       * @param queue - Queue notified when the Image is collected
+       */
+      SoftImage(final Key key, final BufferedImage image, final ReferenceQueue<BufferedImage> queue)
+      {
+         super(image, queue);
+         _key = key;
+      }
+   }
+
+   // Strongly held Images by Key, in Access Order
+   private final LinkedHashMap<Key, BufferedImage> _images = new LinkedHashMap<Key, BufferedImage>(16, 0.75f, true);
+
+   // Evicted Images until collected
+   private final Map<Key, SoftImage> _softImages = new HashMap<Key, SoftImage>();
+   private final ReferenceQueue<BufferedImage> _collected = new ReferenceQueue<BufferedImage>();
+
+   // Renders in progress by Key
+   private final Map<Key, FutureTask<BufferedImage>> _pending = new ConcurrentHashMap<Key, FutureTask<BufferedImage>>();
+
+   // Memory Cap of the strongly held Images (Bytes)
+   private final long _maxBytes;
+
+   // Memory held by the strongly held Images (Bytes)
+   private long _bytes;
+
+   // Request/Render Counters
+   private long _requests;
+   private long _renders;
+
+   /**
+    * Constructor
+    *
+    * @param maxBytes - Memory Cap of the strongly held Images (Bytes)
+    */
+   public RenderCache(final long maxBytes)
+   {
+      if(maxBytes < 0)
+      {
+         throw new IllegalArgumentException("Invalid render cache size " + maxBytes);
+      }
+
+      _maxBytes = maxBytes;
+   }
+
+   /**
+    * getShared - Gets the Cache shared by all Radial Images
+    *
+    * @return RenderCache
+    */
+   public static RenderCache getShared()
+   {
+      return SHARED;
+   }
+
+   /**
+    * get - Gets a cached Image, rendering it on a miss
+    *
+    * @param width          - Width of the Image
+    * @param height         - Height of the Image
+    * @param spokes         - Number of Spokes
+    * @param phase          - Rotation of the first Spoke (Degrees)
+    * @param renderer       - Renders the Image on a miss
+    * @return BufferedImage - The shared Image (do not modify)
+    */
+   public BufferedImage get(final int width, final int height, final int spokes, final double phase, final Renderer renderer)
+   {
+      final Key key = new Key(width, height, spokes, phase);
+
+      synchronized(this)
+      {
+         ++_requests;
+      }
+
+      BufferedImage image = lookup(key);
+      if(image != null)
+      {
+         return image;
+      }
+
+      // Render once, other Threads missing the same Key wait for the Render
+      final FutureTask<BufferedImage> render = new FutureTask<BufferedImage>(new Callable<BufferedImage>()
+      {
+         @Override
+         public BufferedImage call()
+         {
+            // Check again, a Render of the Key may have finished since the Lookup
+            BufferedImage rendered = lookup(key);
+            if(rendered == null)
+            {
+               rendered = renderer.render();
+               put(key, rendered);
+            }
+            return rendered;
+         }
+      });
+
+      FutureTask<BufferedImage> pending = _pending.putIfAbsent(key, render);
+      if(pending == null)
+      {
+         try
+         {
+            render.run();
+         }
+         finally
+         {
+            _pending.remove(key, render);
+         }
+         pending = render;
+      }
+
+      try
+      {
+         return pending.get();
+      }
+      catch(ExecutionException e)
+      {
+         if(e.getCause() instanceof RuntimeException)
+         {
+            throw (RuntimeException) e.getCause();
+         }
+         throw new IllegalStateException("Render failed", e.getCause());
+      }
+      catch(InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted waiting for a render", e);
+      }
+   }
+
+   /**
+    * clear - Removes all cached Images
+    */
+   public synchronized void clear()
+   {
+      _images.clear();
+      _softImages.clear();
+      _bytes = 0;
+   }
+
+   /**
+    * getHits - Gets the Number of Requests served without rendering
+    *
+    * @return long
+    */
+   public synchronized long getHits()
+   {
+      return _requests - _renders;
+   }
+
+   /**
+    * getMisses - Gets the Number of Renders
+    *
+    * @return long
+    */
+   public synchronized long getMisses()
+   {
+      return _renders;
+   }
+
+   /**
+    * getBytes - Gets the Memory held by the strongly held Images
+    *
+    * @return long
+    */
+   public synchronized long getBytes()
+   {
+      return _bytes;
+   }
+
+   /**
+    * lookup - Gets an Image from memory
+    *
+    * @param key            - Key of the Image
+    * @return BufferedImage - The Image, or null if not cached
+    */
+   private synchronized BufferedImage lookup(final Key key)
+   {
+      purgeCollected();
+
+      BufferedImage image = _images.get(key);
+      if(image != null)
+      {
+         return image;
+      }
+
+      // Bring evicted Images back while still reachable
+      final SoftImage softImage = _softImages.get(key);
+      image = (softImage != null) ? softImage.get() : null;
+
+      if(image != null)
+      {
+         hold(key, image);
+      }
+
+      return image;
+   }
+
+   /**
+    * put - Caches a rendered Image
+    *
+    * @param key   - Key of the Image
+    * @param image - The Image
+    */
+   private synchronized void put(final Key key, final BufferedImage image)
+   {
+      ++_renders;
+      hold(key, image);
+   }
+
+   /**
+    * hold - Holds an Image strongly, evicting the least recently used Images above
+    *        the Memory Cap to soft references
+    *
+    * @param key   - Key of the Image
+    * @param image - The Image
+    */
+   private void hold(final Key key, final BufferedImage image)
+   {
+      final BufferedImage previous = _images.put(key, image);
+      if(previous != null)
+      {
+         _bytes -= getBytes(previous);
+      }
+      _bytes += getBytes(image);
+      _softImages.remove(key);
+
+      // Evict least recently used Images
+      final Iterator<Map.Entry<Key, BufferedImage>> it = _images.entrySet().iterator();
+      while((_bytes > _maxBytes) && it.hasNext())
+      {
+         final Map.Entry<Key, BufferedImage> entry = it.next();
+         final BufferedImage evicted = entry.getValue();
+
+         _softImages.put(entry.getKey(), new SoftImage(entry.getKey(), evicted, _collected));
+
+         _bytes -= getBytes(evicted);
+         it.remove();
+      }
+   }
+
+   /**
+    * purgeCollected - Removes the Soft References of collected Images
+    */
+   private void purgeCollected()
+   {
+      SoftImage collected;
+      while((collected = (SoftImage) _collected.poll()) != null)
+      {
+         _softImages.remove(collected._key, collected);
+      }
+   }
+
+   /**
+    * getBytes - Gets the Memory held by an Image
+    *
+    * @param image - The Image
+    * @return long - Size in Bytes
+    */
+   private static long getBytes(final BufferedImage image)
+   {
+      return 4L * image.getWidth() * image.getHeight();
+   }
+}
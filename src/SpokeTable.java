@@ -0,0 +1,204 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * SpokeTable - Precomputed geometry of the spokes of a Radial Image with a given
+ *              number of spokes and dimensions. Holds the unit direction and the
+ *              endpoint on the image border of every spoke at phase 0, so rotating
+ *              the spokes only needs an index offset plus one rotation of the table
+ */
+public final class SpokeTable
+{
+   // Shared Tables by (spokes, width, height)
+   private static final Map<Long, SpokeTable> TABLES = new ConcurrentHashMap<Long, SpokeTable>();
+
+   // Angle of the first Spoke at phase 0 (pointing up, in degrees)
+   private static final double BASE_ANGLE = -90.0;
+
+   // Number of Spokes
+   private final int _spokes;
+
+   // Degrees between two neighboring Spokes
+   private final double _spacing;
+
+   // Center of the Image
+   private final double _centerX;
+   private final double _centerY;
+
+   // Bounds of the Image
+   private final double _maxX;
+   private final double _maxY;
+
+   // Unit Direction of each Spoke at phase 0
+   private final double[] _dirX;
+   private final double[] _dirY;
+
+   // Endpoint of each Spoke on the Image border at phase 0
+   private final double[] _endX;
+   private final double[] _endY;
+
+   /**
+    * Constructor
+    *
+    * @param spokes - The Number of Spokes
+    * @param width  - The Width of the Image
+    * @param height - The Height of the Image
+    */
+   private SpokeTable(final int spokes, final int width, final int height)
+   {
+      if(spokes < 1)
+      {
+         throw new IllegalArgumentException("Invalid spoke count " + spokes);
+      }
+
+      _spokes = spokes;
+      _spacing = 360.0/spokes;
+      _centerX = width/2;
+      _centerY = height/2;
+      _maxX = width - 1;
+      _maxY = height - 1;
+
+      _dirX = new double[spokes];
+      _dirY = new double[spokes];
+      _endX = new double[spokes];
+      _endY = new double[spokes];
+
+      // Compute the Direction and Endpoint of each Spoke
+      for(int i = 0; i < spokes; ++i)
+      {
+         final double theta = Math.toRadians(BASE_ANGLE + (i * _spacing));
+         _dirX[i] = Math.cos(theta);
+         _dirY[i] = Math.sin(theta);
+
+         final double t = reach(_dirX[i], _dirY[i]);
+         _endX[i] = _centerX + (_dirX[i] * t);
+         _endY[i] = _centerY + (_dirY[i] * t);
+      }
+   }
+
+   /**
+    * get - Gets the shared Spoke Table for the given number of spokes and dimensions
+    *
+    * @param spokes      - The Number of Spokes (at least 1)
+    * @param width       - The Width of the Image
+    * @param height      - The Height of the Image
+    * @return SpokeTable - The Spoke Table
+    */
+   public static SpokeTable get(final int spokes, final int width, final int height)
+   {
+      final long key = ((long) spokes << 42) | ((long) width << 21) | height;
+
+      // Build each Table once, even when Threads ask for it at the same time
+      return TABLES.computeIfAbsent(key, new Function<Long, SpokeTable>()
+      {
+         @Override
+         public SpokeTable apply(final Long k)
+         {
+            return new SpokeTable(spokes, width, height);
+         }
+      });
+   }
+
+   /**
+    * getSpokes - Gets the Number of Spokes
+    *
+    * @return int
+    */
+   public int getSpokes()
+   {
+      return _spokes;
+   }
+
+   /**
+    * getSpacing - Gets the Degrees between two neighboring Spokes
+    *
+    * @return double
+    */
+   public double getSpacing()
+   {
+      return _spacing;
+   }
+
+   /**
+    * getEndpoints - Gets the Endpoints on the Image border of every Spoke
+    *                rotated by the given phase
+    *
+    * @param phase - Degrees of Rotation
+    * @param endX  - X Endpoints of the Spokes (output, length >= spokes)
+    * @param endY  - Y Endpoints of the Spokes (output, length >= spokes)
+    */
+   public void getEndpoints(final double phase, final double[] endX, final double[] endY)
+   {
+      // Split phase into a whole number of Spokes and a residual rotation
+      double p = phase % 360.0;
+      if(p < 0)
+      {
+         p += 360.0;
+      }
+      final int offset = ((int)(p / _spacing)) % _spokes;
+      final double residual = p - (offset * _spacing);
+
+      // Check if Spokes line up with the table
+      if(residual == 0.0)
+      {
+         for(int i = 0; i < _spokes; ++i)
+         {
+            final int k = (i + offset) % _spokes;
+            endX[i] = _endX[k];
+            endY[i] = _endY[k];
+         }
+         return;
+      }
+
+      // Rotate the table by the residual rotation
+      final double theta = Math.toRadians(residual);
+      final double cos = Math.cos(theta);
+      final double sin = Math.sin(theta);
+
+      for(int i = 0; i < _spokes; ++i)
+      {
+         final int k = (i + offset) % _spokes;
+         final double dx = (_dirX[k] * cos) - (_dirY[k] * sin);
+         final double dy = (_dirY[k] * cos) + (_dirX[k] * sin);
+
+         final double t = reach(dx, dy);
+         endX[i] = _centerX + (dx * t);
+         endY[i] = _centerY + (dy * t);
+      }
+   }
+
+   /**
+    * reach - Gets the distance from the Center to the Image border along a direction
+    *
+    * @param dx      - X Component of the Unit Direction
+    * @param dy      - Y Component of the Unit Direction
+    * @return double - Distance to the Image border
+    */
+   private double reach(final double dx, final double dy)
+   {
+      double t = Double.POSITIVE_INFINITY;
+
+      // Distance to the Left/Right border
+      if(dx > 0)
+      {
+         t = (_maxX - _centerX) / dx;
+      }
+      else if(dx < 0)
+      {
+         t = -_centerX / dx;
+      }
+
+      // Distance to the Top/Bottom border
+      if(dy > 0)
+      {
+         t = Math.min(t, (_maxY - _centerY) / dy);
+      }
+      else if(dy < 0)
+      {
+         t = Math.min(t, -_centerY / dy);
+      }
+
+      return t;
+   }
+}
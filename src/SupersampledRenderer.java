@@ -0,0 +1,164 @@
+/**
+ * SupersampledRenderer - Renders the spokes of a Radial Image at its final size with
+ *                        k x k stratified samples per pixel, each pixel shaded by the
+ *                        fraction of its samples inside a spoke of width 1.
+ *
+ *                        This is the box filtered image of a k times larger rendering,
+ *                        computed without making the larger image. A pixel only tests
+ *                        the spokes whose angle from its center is within the reach
+ *                        of its samples, found from the PolarMap, so pixels away from
+ *                        every spoke are white without sampling
+ */
+public final class SupersampledRenderer
+{
+   // Angle of the first Spoke at phase 0 (pointing up, in degrees)
+   private static final double BASE_ANGLE = -90.0;
+
+   // Half Width of a Spoke (pixels)
+   private static final double HALF_WIDTH = 0.5;
+
+   // Largest Distance of a Sample from its Pixel Center, plus the Half Width (pixels)
+   private static final double REACH = HALF_WIDTH + (Math.sqrt(2.0) / 2);
+
+   // Largest Number of Samples per Axis (the Coverage must fit 8 bits per Channel)
+   public static final int MAX_SAMPLES = 16;
+
+   /**
+    * Constructor
+    */
+   private SupersampledRenderer()
+   {
+   }
+
+   /**
+    * render - Renders black spokes on white with k x k Samples per Pixel
+    *
+    * @param pixels  - Pixels of the Image (row-major, output)
+    * @param width   - Width of the Image
+    * @param height  - Height of the Image
+    * @param spokes  - Number of Spokes
+    * @param phase   - Rotation of the first Spoke (Degrees)
+    * @param samples - Samples per Axis of each Pixel (k)
+    */
+   public static void render(final int[] pixels, final int width, final int height, final int spokes,
+                             final double phase, final int samples)
+   {
+      if((samples < 1) || (samples > MAX_SAMPLES))
+      {
+         throw new IllegalArgumentException("Invalid supersampling " + samples);
+      }
+
+      // Unit Direction of each Spoke
+      final double[] dirX = new double[spokes];
+      final double[] dirY = new double[spokes];
+      for(int i = 0; i < spokes; ++i)
+      {
+         final double theta = Math.toRadians(BASE_ANGLE + phase + ((i * 360.0) / spokes));
+         dirX[i] = Math.cos(theta);
+         dirY[i] = Math.sin(theta);
+      }
+
+      // Offsets of the Samples from the Pixel Center (stratified, one per Cell)
+      final double[] offsets = new double[samples];
+      for(int i = 0; i < samples; ++i)
+      {
+         offsets[i] = ((i + 0.5) / samples) - 0.5;
+      }
+
+      final int[] angles = PolarMap.get(width, height).getAngles();
+      final int rotation = PolarMap.toBinaryAngle(phase);
+
+      ImageRaster.forEachBand(height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            final int centerX = width/2;
+            final int centerY = height/2;
+            final double period = 360.0/spokes;
+
+            for(int y = startY; y < endY; ++y)
+            {
+               final int dy = y - centerY;
+
+               for(int x = 0; x < width; ++x)
+               {
+                  final int dx = x - centerX;
+                  final int p = (y * width) + x;
+                  final double r = Math.sqrt((dx * dx) + (dy * dy));
+
+                  // Nearest Spoke and the Angle to it (Degrees, negative before it)
+                  final long turn = ((angles[p] - rotation) & 0xffffffffL) * spokes;
+                  final int nearest = (int) ((turn + 0x80000000L) >>> 32);
+                  final double offset = ((int) turn) / (PolarMap.UNITS_PER_DEGREE * spokes);
+
+                  // Angle the Samples reach from the Pixel Center (bounded by asin(z) <= z*pi/2 first)
+                  int covered = 0;
+                  if((r <= REACH) || (Math.abs(offset) <= Math.toDegrees((Math.PI / 2) * (REACH / r))))
+                  {
+                     final double reachAngle = (r > REACH) ? Math.toDegrees(Math.asin(REACH / r)) : 180.0;
+                     final int reach = Math.min(spokes, (int) Math.ceil(reachAngle / period));
+
+                     if(Math.abs(offset) <= reachAngle)
+                     {
+                        covered = countCovered(dx, dy, dirX, dirY, nearest % spokes, reach, offsets);
+                     }
+                  }
+
+                  // Shade by the Fraction of covered Samples
+                  final int value = 255 - (((covered * 255) + ((samples * samples) / 2)) / (samples * samples));
+                  pixels[p] = PackedPixels.ALPHA | (value * 0x010101);
+               }
+            }
+         }
+      });
+   }
+
+   /**
+    * countCovered - Counts the Samples of a Pixel inside any of the Spokes near it
+    *
+    * @param dx      - X of the Pixel Center from the Image Center
+    * @param dy      - Y of the Pixel Center from the Image Center
+    * @param dirX    - X Direction of each Spoke
+    * @param dirY    - Y Direction of each Spoke
+    * @param nearest - Index of the Spoke nearest to the Pixel Center
+    * @param reach   - Spokes to test on each Side of the nearest Spoke
+    * @param offsets - Offsets of the Samples from the Pixel Center
+    * @return int    - Number of covered Samples
+    */
+   private static int countCovered(final int dx, final int dy, final double[] dirX, final double[] dirY,
+                                   final int nearest, final int reach, final double[] offsets)
+   {
+      final int spokes = dirX.length;
+      final int first = (reach >= spokes) ? 0 : nearest - reach;
+      final int last = (reach >= spokes) ? spokes - 1 : nearest + reach;
+
+      int covered = 0;
+      for(final double offsetY : offsets)
+      {
+         final double sampleY = dy + offsetY;
+
+         for(final double offsetX : offsets)
+         {
+            final double sampleX = dx + offsetX;
+
+            for(int k = first; k <= last; ++k)
+            {
+               final int i = ((k % spokes) + spokes) % spokes;
+
+               // Distance along and across the Spoke (a ray from the Center)
+               final double along = (sampleX * dirX[i]) + (sampleY * dirY[i]);
+               final double across = (sampleX * dirY[i]) - (sampleY * dirX[i]);
+
+               if((along >= -HALF_WIDTH) && (Math.abs(across) < HALF_WIDTH))
+               {
+                  ++covered;
+                  break;
+               }
+            }
+         }
+      }
+
+      return covered;
+   }
+}
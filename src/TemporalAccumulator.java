@@ -0,0 +1,196 @@
+import java.util.Arrays;
+
+/**
+ * TemporalAccumulator - Blends the last N frames of an animation with exponentially
+ *                       decaying weights (1 for the newest frame, decay^k for the frame
+ *                       k frames older).
+ *
+ *                       Frames are kept in a ring buffer, and each channel of each pixel
+ *                       keeps a running weighted sum that is updated as
+ *                       S = decay*S + new - decay^N*old when a frame is pushed, so the cost
+ *                       of pushing and blending does not grow with N. A decay of 1 gives
+ *                       an unweighted mean of the last N frames. Not thread-safe
+ */
+public final class TemporalAccumulator
+{
+   // Width/Height of the Frames
+   private final int _width;
+   private final int _height;
+
+   // Ring of the last N Frames (packed ARGB)
+   private final int[][] _frames;
+
+   // Slot of the Ring the next Frame is written to
+   private int _head;
+
+   // Number of Frames in the Ring
+   private int _count;
+
+   // Weight Decay per Frame of Age, and Weight of a Frame leaving the Ring (decay^N)
+   private final double _decay;
+   private final double _decayN;
+
+   // Running Weighted Sums of each Channel
+   private final double[] _red;
+   private final double[] _green;
+   private final double[] _blue;
+
+   // Running Sum of the Weights of the Frames in the Ring
+   private double _weightSum;
+
+   /**
+    * Constructor
+    *
+    * @param width  - Width of the Frames
+    * @param height - Height of the Frames
+    * @param frames - Number of Frames blended (N)
+    * @param decay  - Weight Decay per Frame of Age (0 < decay <= 1)
+    */
+   public TemporalAccumulator(final int width, final int height, final int frames, final double decay)
+   {
+      if(frames < 1)
+      {
+         throw new IllegalArgumentException("Invalid history length " + frames);
+      }
+
+      if(!((decay > 0) && (decay <= 1)))
+      {
+         throw new IllegalArgumentException("Invalid history decay " + decay);
+      }
+
+      _width = width;
+      _height = height;
+      _frames = new int[frames][width * height];
+      _decay = decay;
+      _decayN = Math.pow(decay, frames);
+      _red = new double[width * height];
+      _green = new double[width * height];
+      _blue = new double[width * height];
+   }
+
+   /**
+    * push - Adds the newest Frame, dropping the oldest Frame once N Frames are held
+    *
+    * @param pixels - Pixels of the Frame (row-major, width x height)
+    */
+   public void push(final int[] pixels)
+   {
+      final int[] slot = _frames[_head];
+      final boolean isFull = _count == _frames.length;
+
+      // Weight of the Frame leaving the Ring after decaying once more
+      final double oldWeight = isFull ? _decayN : 0.0;
+
+      ImageRaster.forEachBand(_height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            pushRows(pixels, slot, oldWeight, startY * _width, endY * _width);
+         }
+      });
+
+      _weightSum = (_decay * _weightSum) + 1.0 - oldWeight;
+      _head = (_head + 1) % _frames.length;
+      _count = Math.min(_count + 1, _frames.length);
+   }
+
+   /**
+    * resolve - Writes the Weighted Average of the Frames held
+    *
+    * @param dst - Pixels of the Blended Frame (row-major, width x height)
+    */
+   public void resolve(final int[] dst)
+   {
+      if(_count == 0)
+      {
+         throw new IllegalStateException("No frames to resolve");
+      }
+
+      final double scale = 1.0 / _weightSum;
+
+      ImageRaster.forEachBand(_height, new ImageRaster.BandTask()
+      {
+         @Override
+         public void run(final int startY, final int endY)
+         {
+            for(int p = startY * _width; p < endY * _width; ++p)
+            {
+               final int newRed = toChannel(_red[p] * scale);
+               final int newGreen = toChannel(_green[p] * scale);
+               final int newBlue = toChannel(_blue[p] * scale);
+
+               dst[p] = PackedPixels.ALPHA | (newRed << 16) | (newGreen << 8) | newBlue;
+            }
+         }
+      });
+   }
+
+   /**
+    * clear - Removes all Frames
+    */
+   public void clear()
+   {
+      Arrays.fill(_red, 0.0);
+      Arrays.fill(_green, 0.0);
+      Arrays.fill(_blue, 0.0);
+      _weightSum = 0.0;
+      _head = 0;
+      _count = 0;
+   }
+
+   /**
+    * getFrames - Gets the Number of Frames blended (N)
+    *
+    * @return int
+    */
+   public int getFrames()
+   {
+      return _frames.length;
+   }
+
+   /**
+    * getCount - Gets the Number of Frames currently held
+    *
+    * @return int
+    */
+   public int getCount()
+   {
+      return _count;
+   }
+
+   /**
+    * pushRows - Updates the Running Sums of Pixels [start, end) and stores the new Frame
+    *
+    * @param pixels    - Pixels of the new Frame
+    * @param slot      - Ring Slot holding the oldest Frame, overwritten by the new Frame
+    * @param oldWeight - Weight of the oldest Frame after decaying (0 if the Ring is not full)
+    * @param start     - First Pixel
+    * @param end       - Pixel after the last Pixel
+    */
+   private void pushRows(final int[] pixels, final int[] slot, final double oldWeight, final int start, final int end)
+   {
+      for(int p = start; p < end; ++p)
+      {
+         final int pix = pixels[p];
+         final int old = slot[p];
+
+         _red[p]   = (_decay * _red[p])   + ((pix >> 16) & 0xff) - (oldWeight * ((old >> 16) & 0xff));
+         _green[p] = (_decay * _green[p]) + ((pix >> 8) & 0xff)  - (oldWeight * ((old >> 8) & 0xff));
+         _blue[p]  = (_decay * _blue[p])  + (pix & 0xff)         - (oldWeight * (old & 0xff));
+
+         slot[p] = pix;
+      }
+   }
+
+   /**
+    * toChannel - Rounds a blended Channel to 0..255
+    *
+    * @param value - The Blended Channel
+    * @return int  - The Channel
+    */
+   private static int toChannel(final double value)
+   {
+      return Math.max(0, Math.min(255, (int) (value + 0.5)));
+   }
+}
@@ -0,0 +1,133 @@
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.Writer;
+
+/**
+ * analysisMain
+ *
+ * This Program sweeps Spatial and Temporal Anti-Aliasing parameters headless and
+ * writes the Metrics of every combination to a CSV file.
+ *
+ * Every list is comma separated values or a start:end:step range, e.g.
+ * analysisMain sweep.csv 8:64:8 1,2,4 none,3x3,gaussian1.0 0,1 30,60
+ */
+public class analysisMain
+{
+   // Width/Height of the Source Images
+   private static final int WIDTH = 512;
+   private static final int HEIGHT = 512;
+
+   // Usage Statement
+   private static final String USAGE = "Usage: analysisMain output.csv spokes scales filters rotsPerSec fps [referenceSpokes]";
+
+   /**
+    * main
+    *
+    * @param args
+    */
+   public static void main(String[] args)
+   {
+      // Ensure the Program has 6 or 7 arguments passed
+      if(args.length < 6 || args.length >= 8)
+      {
+         // Print Usage Statement and End Program
+         System.out.println(USAGE);
+         System.exit(1);
+      }
+      else
+      {
+         try
+         {
+            // Get Arguments
+            final AnalysisSweep sweep = new AnalysisSweep(WIDTH, HEIGHT);
+            sweep.setSpokes(parseInts(args[1]));
+            sweep.setScales(parseDoubles(args[2]));
+            sweep.setFilters(args[3].split(","));
+            sweep.setRotsPerSec(parseDoubles(args[4]));
+            sweep.setFps(parseDoubles(args[5]));
+            if(args.length == 7)
+            {
+               sweep.setReferenceSpokes(Integer.parseInt(args[6]));
+            }
+
+            // Run the Sweep and write the Results
+            final long start = System.nanoTime();
+            try(Writer writer = new BufferedWriter(new FileWriter(args[0])))
+            {
+               AnalysisSweep.writeCsv(sweep.run(), writer);
+            }
+
+            System.out.println(sweep.getCells() + " cells in " + ((System.nanoTime() - start) / 1000000) + " ms");
+         }
+         catch(Exception e)
+         {
+            // Print Stack Trace
+            e.printStackTrace();
+
+            // Print Usage Statement and End Program
+            System.out.println(USAGE);
+            System.exit(1);
+         }
+      }
+   }
+
+   /**
+    * parseInts - Parses comma separated Integers or a start:end:step Range
+    *
+    * @param list   - The List
+    * @return int[] - The Values
+    */
+   private static int[] parseInts(final String list)
+   {
+      final double[] values = parseDoubles(list);
+      final int[] ints = new int[values.length];
+      for(int i = 0; i < values.length; ++i)
+      {
+         ints[i] = (int) values[i];
+         if(ints[i] != values[i])
+         {
+            throw new IllegalArgumentException("Invalid integer " + values[i]);
+         }
+      }
+      return ints;
+   }
+
+   /**
+    * parseDoubles - Parses comma separated Values or a start:end:step Range
+    *                (end included)
+    *
+    * @param list      - The List
+    * @return double[] - The Values
+    */
+   private static double[] parseDoubles(final String list)
+   {
+      final String[] range = list.split(":");
+      if(range.length == 3)
+      {
+         final double start = Double.parseDouble(range[0]);
+         final double end = Double.parseDouble(range[1]);
+         final double step = Double.parseDouble(range[2]);
+         if(!(step > 0) || (end < start))
+         {
+            throw new IllegalArgumentException("Invalid range " + list);
+         }
+
+         // Count Steps with a small Tolerance so the End is included
+         final int count = (int) Math.floor(((end - start) / step) + 1e-9) + 1;
+         final double[] values = new double[count];
+         for(int i = 0; i < count; ++i)
+         {
+            values[i] = start + (i * step);
+         }
+         return values;
+      }
+
+      final String[] items = list.split(",");
+      final double[] values = new double[items.length];
+      for(int i = 0; i < items.length; ++i)
+      {
+         values[i] = Double.parseDouble(items[i].trim());
+      }
+      return values;
+   }
+}
@@ -0,0 +1,83 @@
+import java.io.File;
+
+/**
+ * offlineMain
+ *
+ * This Program renders the Original and the Modified Videos headless, as fast as
+ * possible, and writes every Frame to a directory as raw pixels or PNG files, or
+ * each Video to one Frame Container for playbackMain
+ */
+public class offlineMain
+{
+   // Usage Statement
+   private static final String USAGE = "Usage: offlineMain outputDir raw|png|frames frames numLines rotsPerSec fps scale isAntiAliased [historyFrames]";
+
+   /**
+    * main
+    *
+    * @param args
+    */
+   public static void main(String[] args)
+   {
+      // Ensure the Program has 8 or 9 arguments passed
+      if(args.length < 8 || args.length >= 10)
+      {
+         // Print Usage Statement and End Program
+         System.out.println(USAGE);
+         System.exit(1);
+      }
+      else
+      {
+         try
+         {
+            // Get Arguments
+            final File outputDir = new File(args[0]);
+            final int format;
+            if(args[1].equals("png"))
+            {
+               format = OfflineRenderer.FORMAT_PNG;
+            }
+            else if(args[1].equals("raw"))
+            {
+               format = OfflineRenderer.FORMAT_RAW;
+            }
+            else if(args[1].equals("frames"))
+            {
+               format = OfflineRenderer.FORMAT_CONTAINER;
+            }
+            else
+            {
+               throw new IllegalArgumentException("Invalid format " + args[1]);
+            }
+            final long frames = Long.parseLong(args[2]);
+            final int numLines = Integer.parseInt(args[3]);
+            final double rotsPerSec = Double.parseDouble(args[4]);
+            final double fps = Double.parseDouble(args[5]);
+            final double scale = Double.parseDouble(args[6]);
+            final boolean isAntiAliased = Integer.parseInt(args[7]) == 1;
+            final int historyFrames = (args.length == 9) ? Integer.parseInt(args[8]) : 1;
+
+            // Render the Videos with one Encoder per Processor
+            final OfflineRenderer renderer = new OfflineRenderer(outputDir, format, Runtime.getRuntime().availableProcessors(),
+                                                                 OfflineRenderer.DEFAULT_CAPACITY);
+            ImageDisplay.addVideos(renderer, numLines, rotsPerSec, fps, scale, isAntiAliased, historyFrames);
+
+            final long start = System.nanoTime();
+            renderer.render(frames);
+            final double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println("Rendered " + frames + " frames per video in " + seconds + " s ("
+                               + (frames / seconds) + " frames per second)");
+         }
+         catch(Exception e)
+         {
+            // Print Stack Trace
+            e.printStackTrace();
+
+            // Print Usage Statement and End Program
+            System.out.println(USAGE);
+            System.exit(1);
+         }
+      }
+   }
+}
@@ -0,0 +1,53 @@
+import java.io.File;
+
+/**
+ * playbackMain
+ *
+ * This Program plays Original and Modified Videos precomputed by offlineMain into
+ * Frame Containers, each at the Frame Rate it was rendered for
+ */
+public class playbackMain
+{
+   // Usage Statement
+   private static final String USAGE = "Usage: playbackMain original.frames modified.frames";
+
+   /**
+    * main
+    *
+    * @param args
+    */
+   public static void main(String[] args)
+   {
+      // Generate the Images to be displayed
+      ImageDisplay ren = new ImageDisplay();
+
+      // Ensure the Program has 2 arguments passed
+      if(args.length < 2 || args.length >= 3)
+      {
+         // Print Usage Statement and End Program
+         System.out.println(USAGE);
+         System.exit(1);
+      }
+      else
+      {
+         try
+         {
+            // Get Arguments (the Containers stay open while the Videos play)
+            final FrameContainer original = FrameContainer.open(new File(args[0]));
+            final FrameContainer modified = FrameContainer.open(new File(args[1]));
+
+            // Show the Videos
+            ren.showVideos(original, modified);
+         }
+         catch(Exception e)
+         {
+            // Print Stack Trace
+            e.printStackTrace();
+
+            // Print Usage Statement and End Program
+            System.out.println(USAGE);
+            System.exit(1);
+         }
+      }
+   }
+}